@@ -0,0 +1,59 @@
+package benchmarks;
+
+import algorithms.RoundRobinScheduler;
+import algorithms.Scheduler;
+import models.Process;
+import models.SchedulingResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round Robin with a 1-unit quantum on 500k processes, where the ready queue dominates
+ * With TQ=1 every unit of burst is its own dispatch, about 5.2 million
+ * slices for this workload: arrivals in [0, processCount), bursts 1-20,
+ * seed 7. Only Process, RoundRobinScheduler(int) and
+ * Scheduler.schedule(List) are used, so the class also builds against
+ * sources from before the int ring-buffer queues, for a before/after
+ * comparison (see README).
+ *
+ * Allocation per run: run with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class RoundRobinQuantumBenchmark {
+
+    private static final long SEED = 7L;
+    private static final int MAX_BURST = 20;
+
+    @Param({"500000"})
+    public int processCount;
+
+    @Param({"1"})
+    public int timeQuantum;
+
+    private Scheduler scheduler;
+    private List<Process> processes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scheduler = new RoundRobinScheduler(timeQuantum);
+        Random random = new Random(SEED);
+        processes = new ArrayList<>(processCount);
+        for (int i = 1; i <= processCount; i++) {
+            processes.add(new Process(i, random.nextInt(processCount), random.nextInt(MAX_BURST) + 1, 0));
+        }
+    }
+
+    @Benchmark
+    public SchedulingResult schedule() {
+        return scheduler.schedule(processes);
+    }
+}
@@ -0,0 +1,97 @@
+package benchmarks;
+
+import algorithms.*;
+import models.Process;
+import models.ProcessTable;
+import models.SchedulingResult;
+import org.openjdk.jmh.annotations.*;
+import utils.ProcessGenerator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and scaling of every Scheduler implementation
+ * Workloads come from ProcessGenerator with a fixed seed, so every
+ * algorithm sees the same processes at a given size. Arrivals are spread
+ * over 5 time units per process and bursts are 1-10, which keeps the CPU
+ * near saturation at every size.
+ *
+ * Allocation rate: run with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class SchedulerBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int MAX_BURST = 10;
+    private static final int MAX_PRIORITY = 7;
+
+    @Param({"FCFS", "SJF", "SRTF", "PRIORITY", "PRIORITY_PREEMPTIVE", "RR", "MLQ",
+            "MLFQ", "CFS", "LOTTERY", "STRIDE"})
+    public String algorithm;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int processCount;
+
+    private Scheduler scheduler;
+    private List<Process> processes;
+    private ProcessTable table;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scheduler = createScheduler(algorithm);
+        processes = ProcessGenerator.generateRandomProcesses(
+                processCount, processCount * 5, MAX_BURST, MAX_PRIORITY, SEED);
+        table = ProcessTable.fromProcesses(processes);
+    }
+
+    /**
+     * Schedule through the List<Process> entry point (copies every process)
+     */
+    @Benchmark
+    public SchedulingResult scheduleList() {
+        return scheduler.schedule(processes);
+    }
+
+    /**
+     * Schedule through the columnar ProcessTable entry point
+     */
+    @Benchmark
+    public SchedulingResult scheduleTable() {
+        return scheduler.schedule(table);
+    }
+
+    static Scheduler createScheduler(String algorithm) {
+        switch (algorithm) {
+            case "FCFS":
+                return new FCFSScheduler();
+            case "SJF":
+                return new SJFScheduler(false);
+            case "SRTF":
+                return new SJFScheduler(true);
+            case "PRIORITY":
+                return new PriorityScheduler(false);
+            case "PRIORITY_PREEMPTIVE":
+                return new PriorityScheduler(true);
+            case "RR":
+                return new RoundRobinScheduler(4);
+            case "MLQ":
+                return new MultilevelQueueScheduler();
+            case "MLFQ":
+                return new MultilevelFeedbackQueueScheduler();
+            case "CFS":
+                return new CompletelyFairScheduler();
+            case "LOTTERY":
+                return new LotteryScheduler();
+            case "STRIDE":
+                return new StrideScheduler();
+            default:
+                throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+    }
+}
@@ -27,6 +27,18 @@ if errorlevel 1 (
     exit /b 1
 )
 
+javac -d build -cp build src/trace/*.java
+if errorlevel 1 (
+    echo ✗ Error compiling trace
+    exit /b 1
+)
+
+javac -d build -cp build src/workload/*.java
+if errorlevel 1 (
+    echo ✗ Error compiling workload
+    exit /b 1
+)
+
 javac -d build -cp build src/algorithms/*.java
 if errorlevel 1 (
     echo ✗ Error compiling algorithms
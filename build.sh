@@ -28,6 +28,20 @@ if [ $? -ne 0 ]; then
     exit 1
 fi
 
+# Compile trace readers
+javac -d build -cp build src/trace/*.java
+if [ $? -ne 0 ]; then
+    echo -e "${RED}✗ Error compiling trace${NC}"
+    exit 1
+fi
+
+# Compile workload generators
+javac -d build -cp build src/workload/*.java
+if [ $? -ne 0 ]; then
+    echo -e "${RED}✗ Error compiling workload${NC}"
+    exit 1
+fi
+
 # Compile algorithms
 javac -d build -cp build src/algorithms/*.java
 if [ $? -ne 0 ]; then
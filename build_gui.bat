@@ -35,6 +35,8 @@ echo [2/3] Compiling source files with JavaFX...
 echo        Command: javac --module-path "%JAVAFX_SDK%\lib" --add-modules javafx.controls,javafx.fxml -d "%BUILD_DIR%" ...
 javac --module-path "%JAVAFX_SDK%\lib" --add-modules javafx.controls,javafx.fxml -d "%BUILD_DIR%" ^
     "%SRC_DIR%\models\*.java" ^
+    "%SRC_DIR%\trace\*.java" ^
+    "%SRC_DIR%\workload\*.java" ^
     "%SRC_DIR%\algorithms\*.java" ^
     "%SRC_DIR%\visualization\*.java" ^
     "%SRC_DIR%\utils\*.java" ^
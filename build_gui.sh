@@ -43,6 +43,30 @@ if [ $? -ne 0 ]; then
     exit 1
 fi
 
+echo "        Compiling trace readers..."
+javac --module-path "$JAVAFX_SDK/lib" --add-modules javafx.controls,javafx.fxml \
+    -d "$BUILD_DIR" \
+    -cp "$BUILD_DIR" \
+    "$SRC_DIR"/trace/*.java
+
+if [ $? -ne 0 ]; then
+    echo ""
+    echo "ERROR: Compilation of trace readers failed!"
+    exit 1
+fi
+
+echo "        Compiling workload generators..."
+javac --module-path "$JAVAFX_SDK/lib" --add-modules javafx.controls,javafx.fxml \
+    -d "$BUILD_DIR" \
+    -cp "$BUILD_DIR" \
+    "$SRC_DIR"/workload/*.java
+
+if [ $? -ne 0 ]; then
+    echo ""
+    echo "ERROR: Compilation of workload generators failed!"
+    exit 1
+fi
+
 echo "        Compiling algorithms..."
 javac --module-path "$JAVAFX_SDK/lib" --add-modules javafx.controls,javafx.fxml \
     -d "$BUILD_DIR" \
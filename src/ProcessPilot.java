@@ -1,16 +1,33 @@
 import algorithms.*;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.CancellationException;
 import models.Process;
+import models.ProcessTable;
+import models.RunStatistics;
+import models.SchedulingMetrics;
 import models.SchedulingResult;
+import trace.TraceReader;
+import utils.ComparisonRunner;
+import utils.MonteCarloRunner;
+import utils.OnlineStatistics;
 import utils.ProcessGenerator;
 import utils.SchedulingComparator;
 import visualization.GanttChart;
+import workload.ArrivalProcess;
+import workload.Distribution;
+import workload.WorkloadGenerator;
 
 /**
  * ProcessPilot - Advanced OS CPU Scheduling Simulator
  * 
  * Features:
- * ✓ Multiple scheduling algorithms (FCFS, SJF, Priority, Round Robin, Multilevel Queue)
+ * ✓ Multiple scheduling algorithms (FCFS, SJF, Priority, Round Robin, Multilevel Queue, MLFQ, CFS, Lottery, Stride)
+ * ✓ Multi-CPU (SMP) simulation with global or per-CPU run queues
  * ✓ Gantt chart visualization
  * ✓ Waiting time & turnaround time calculation
  * ✓ Algorithm comparison
@@ -19,8 +36,10 @@ import visualization.GanttChart;
 public class ProcessPilot {
     private static Scanner scanner = new Scanner(System.in);
     private static List<Process> processes;
+    private static volatile ConsoleProgress activeRun; // null while waiting for input
 
     public static void main(String[] args) {
+        installInterruptHandler();
         displayWelcome();
         
         while (true) {
@@ -44,6 +63,15 @@ public class ProcessPilot {
                     displayAbout();
                     break;
                 case 6:
+                    replayTrace();
+                    break;
+                case 7:
+                    sweepQuanta();
+                    break;
+                case 8:
+                    runMonteCarlo();
+                    break;
+                case 9:
                     System.out.println("\n✓ Thank you for using ProcessPilot! Goodbye.\n");
                     System.exit(0);
                 default:
@@ -66,9 +94,12 @@ public class ProcessPilot {
         System.out.println("│ 3. Run Single Scheduling Algorithm                                             │");
         System.out.println("│ 4. Compare All Scheduling Algorithms                                           │");
         System.out.println("│ 5. About ProcessPilot                                                           │");
-        System.out.println("│ 6. Exit                                                                         │");
+        System.out.println("│ 6. Replay Trace File (streaming)                                                │");
+        System.out.println("│ 7. Sweep Time Quanta (Round Robin / Multilevel Queue)                           │");
+        System.out.println("│ 8. Monte Carlo Comparison (random workloads)                                    │");
+        System.out.println("│ 9. Exit                                                                         │");
         System.out.println("└─────────────────────────────────────────────────────────────────────────────────┘");
-        System.out.print("Enter your choice (1-6): ");
+        System.out.print("Enter your choice (1-9): ");
     }
 
     private static void inputProcesses() {
@@ -102,8 +133,10 @@ public class ProcessPilot {
         System.out.println("│ 2. Sample Dataset 2 (4 processes)                                               │");
         System.out.println("│ 3. Sample Dataset 3 (5 processes - priority based)                              │");
         System.out.println("│ 4. Generate Random Processes                                                    │");
+        System.out.println("│ 5. Load From Trace File (CSV or binary)                                         │");
+        System.out.println("│ 6. Synthetic Workload (Poisson, on/off, diurnal; heavy-tailed bursts)           │");
         System.out.println("└─────────────────────────────────────────────────────────────────────────────────┘");
-        System.out.print("Select dataset (1-4): ");
+        System.out.print("Select dataset (1-6): ");
         
         int choice = getIntInput();
         switch (choice) {
@@ -121,6 +154,26 @@ public class ProcessPilot {
                 int count = getIntInput();
                 processes = ProcessGenerator.generateRandomProcesses(count, 10, 10, 4);
                 break;
+            case 5:
+                System.out.print("Enter trace file path: ");
+                Path path = Paths.get(scanner.nextLine().trim());
+                try {
+                    processes = TraceReader.load(path).toProcesses();
+                } catch (NoSuchFileException e) {
+                    System.out.println("✗ Trace file not found: " + path);
+                    return;
+                } catch (IOException e) {
+                    System.out.println("✗ Could not load trace: " + e.getMessage());
+                    return;
+                }
+                break;
+            case 6:
+                WorkloadGenerator generator = inputSyntheticWorkload(100);
+                if (generator == null) {
+                    return;
+                }
+                processes = generator.toTable().toProcesses();
+                break;
             default:
                 System.out.println("✗ Invalid choice!");
                 return;
@@ -144,8 +197,12 @@ public class ProcessPilot {
         System.out.println("│ 5. Priority Scheduling Preemptive                                               │");
         System.out.println("│ 6. Round Robin                                                                  │");
         System.out.println("│ 7. Multilevel Queue Scheduling (Advanced)                                       │");
+        System.out.println("│ 8. Multilevel Feedback Queue                                                    │");
+        System.out.println("│ 9. Completely Fair (CFS, priority = nice level)                                 │");
+        System.out.println("│ 10. Lottery (tickets by priority)                                               │");
+        System.out.println("│ 11. Stride (tickets by priority)                                                │");
         System.out.println("└─────────────────────────────────────────────────────────────────────────────────┘");
-        System.out.print("Select scheduler (1-7): ");
+        System.out.print("Select scheduler (1-11): ");
         
         int choice = getIntInput();
         Scheduler scheduler = null;
@@ -174,18 +231,88 @@ public class ProcessPilot {
             case 7:
                 scheduler = new MultilevelQueueScheduler();
                 break;
+            case 8:
+                System.out.print("Number of levels (1-" + MultilevelFeedbackQueueScheduler.MAX_LEVELS + ", default 8): ");
+                int levels = getIntInput();
+                System.out.print("Boost interval, 0 for none (default 100): ");
+                int boost = getIntInput();
+                try {
+                    scheduler = new MultilevelFeedbackQueueScheduler(levels > 0 ? levels : 8, 2, boost >= 0 ? boost : 100);
+                } catch (IllegalArgumentException e) {
+                    System.out.println("✗ " + e.getMessage());
+                    return;
+                }
+                break;
+            case 9:
+                System.out.print("Target latency (default 24): ");
+                int latency = getIntInput();
+                System.out.print("Minimum granularity (default 3): ");
+                int granularity = getIntInput();
+                scheduler = new CompletelyFairScheduler(latency > 0 ? latency : 24, granularity > 0 ? granularity : 3);
+                break;
+            case 10:
+                System.out.print("Enter time quantum (default 4): ");
+                int lotteryQuantum = getIntInput();
+                System.out.print("Seed (default " + LotteryScheduler.DEFAULT_SEED + "): ");
+                String lotterySeed = scanner.nextLine().trim();
+                try {
+                    scheduler = new LotteryScheduler(lotteryQuantum > 0 ? lotteryQuantum : 4,
+                            lotterySeed.isEmpty() ? LotteryScheduler.DEFAULT_SEED : Long.parseLong(lotterySeed));
+                } catch (NumberFormatException e) {
+                    System.out.println("✗ Seed must be a whole number.");
+                    return;
+                }
+                break;
+            case 11:
+                System.out.print("Enter time quantum (default 4): ");
+                int strideQuantum = getIntInput();
+                scheduler = new StrideScheduler(strideQuantum > 0 ? strideQuantum : 4);
+                break;
             default:
                 System.out.println("✗ Invalid choice!");
                 return;
         }
 
+        System.out.print("Number of CPUs (1-" + MultiprocessorScheduler.MAX_CPUS + ", default 1): ");
+        int cpus = getIntInput();
+        if (cpus > MultiprocessorScheduler.MAX_CPUS) {
+            System.out.println("✗ At most " + MultiprocessorScheduler.MAX_CPUS + " CPUs are supported!");
+            return;
+        }
+        if (cpus > 1) {
+            System.out.print("Run queues: 1. Global  2. Per-CPU with work stealing (default 1): ");
+            MultiprocessorScheduler.RunQueues runQueues = getIntInput() == 2
+                    ? MultiprocessorScheduler.RunQueues.PER_CPU : MultiprocessorScheduler.RunQueues.GLOBAL;
+            try {
+                scheduler = new MultiprocessorScheduler(scheduler, cpus, runQueues);
+            } catch (IllegalArgumentException e) {
+                System.out.println("✗ " + e.getMessage());
+                return;
+            }
+        } else if (PartitionedScheduler.supports(scheduler)
+                && processes.size() >= 2 * PartitionedScheduler.MIN_CHUNK) {
+            System.out.print("Execution: 1. Sequential  2. Parallel busy periods (default 1): ");
+            if (getIntInput() == 2) {
+                scheduler = new PartitionedScheduler(scheduler);
+            }
+        }
+
         // Create copies of processes
         List<Process> processCopies = new ArrayList<>();
         for (Process p : processes) {
             processCopies.add(p.copy());
         }
 
-        SchedulingResult result = scheduler.schedule(processCopies);
+        SchedulingResult result;
+        ConsoleProgress progress = startRun();
+        try {
+            result = new InstrumentedScheduler(scheduler).schedule(processCopies, progress);
+        } catch (CancellationException e) {
+            System.out.println("\n✗ Scheduling cancelled.");
+            return;
+        } finally {
+            endRun(progress);
+        }
         displaySchedulingResult(result);
     }
 
@@ -197,35 +324,18 @@ public class ProcessPilot {
 
         System.out.println("\nRunning all schedulers...\n");
 
-        List<SchedulingResult> results = new ArrayList<>();
-
-        // FCFS
-        List<Process> processCopies = copyProcesses();
-        results.add(new FCFSScheduler().schedule(processCopies));
-
-        // SJF Non-Preemptive
-        processCopies = copyProcesses();
-        results.add(new SJFScheduler(false).schedule(processCopies));
-
-        // SJF Preemptive
-        processCopies = copyProcesses();
-        results.add(new SJFScheduler(true).schedule(processCopies));
-
-        // Priority Non-Preemptive
-        processCopies = copyProcesses();
-        results.add(new PriorityScheduler(false).schedule(processCopies));
-
-        // Priority Preemptive
-        processCopies = copyProcesses();
-        results.add(new PriorityScheduler(true).schedule(processCopies));
-
-        // Round Robin
-        processCopies = copyProcesses();
-        results.add(new RoundRobinScheduler(4).schedule(processCopies));
-
-        // Multilevel Queue
-        processCopies = copyProcesses();
-        results.add(new MultilevelQueueScheduler().schedule(processCopies));
+        // Run all algorithms in parallel on a shared snapshot of the workload
+        List<SchedulingResult> results;
+        ConsoleProgress progress = startRun();
+        try {
+            results = ComparisonRunner.runAll(ComparisonRunner.defaultSchedulers(4),
+                    ProcessTable.fromProcesses(processes), progress);
+        } catch (CancellationException e) {
+            System.out.println("\n✗ Comparison cancelled.");
+            return;
+        } finally {
+            endRun(progress);
+        }
 
         // Display comparison
         SchedulingComparator.compareResults(results);
@@ -253,20 +363,418 @@ public class ProcessPilot {
         }
     }
 
+    /**
+     * Simulate a trace file in a single pass without loading it into memory
+     */
+    private static void replayTrace() {
+        System.out.println("\n┌─── REPLAY TRACE FILE ─────────────────────────────────────────────────────────┐");
+        System.out.println("│ CSV lines: processId,arrivalTime,burstTime[,priority] sorted by arrival time    │");
+        System.out.println("│ Any other extension is read as a ProcessPilot binary trace                      │");
+        System.out.println("│ Enter 'synthetic' instead to stream a generated workload                        │");
+        System.out.println("└─────────────────────────────────────────────────────────────────────────────────┘");
+        System.out.print("Enter trace file path: ");
+        String source = scanner.nextLine().trim();
+        WorkloadGenerator generator = null;
+        if (source.equalsIgnoreCase("synthetic")) {
+            generator = inputSyntheticWorkload(1_000_000);
+            if (generator == null) {
+                return;
+            }
+        }
+        Path path = generator == null ? Paths.get(source) : null;
+
+        System.out.println("\n┌─── SELECT SCHEDULER ──────────────────────────────────────────────────────────┐");
+        System.out.println("│ 1. FCFS (First Come First Served)                                               │");
+        System.out.println("│ 2. Round Robin                                                                  │");
+        System.out.println("│ 3. Multilevel Queue Scheduling (Advanced)                                       │");
+        System.out.println("└─────────────────────────────────────────────────────────────────────────────────┘");
+        System.out.print("Select scheduler (1-3): ");
+
+        StreamingScheduler scheduler;
+        switch (getIntInput()) {
+            case 1:
+                scheduler = new FCFSScheduler();
+                break;
+            case 2:
+                System.out.print("Enter time quantum (default 4): ");
+                int tq = getIntInput();
+                scheduler = new RoundRobinScheduler(tq > 0 ? tq : 4);
+                break;
+            case 3:
+                scheduler = new MultilevelQueueScheduler();
+                break;
+            default:
+                System.out.println("✗ Invalid choice!");
+                return;
+        }
+
+        long start = System.nanoTime();
+        ConsoleProgress progress = startRun();
+        try (TraceReader trace = generator != null ? generator : TraceReader.open(path)) {
+            SchedulingResult result = scheduler.schedule(trace, progress);
+            result.getStatistics().setWallTimeNanos(System.nanoTime() - start);
+            endRun(progress);
+
+            System.out.println("\n╔════════════════════════════════════════════════════════════════════════════════╗");
+            System.out.println("║ TRACE REPLAY - " + result.getAlgorithmName());
+            System.out.println("╚════════════════════════════════════════════════════════════════════════════════╝");
+            System.out.println("\n┌─── METRICS ───────────────────────────────────────────────────────────────────┐");
+            System.out.printf("│ Processes:               %d%n", trace.recordsRead());
+            System.out.printf("│ Average Waiting Time:    %.2f%n", result.getAverageWaitingTime());
+            System.out.printf("│ Average Turnaround Time: %.2f%n", result.getAverageTurnaroundTime());
+            System.out.printf("│ CPU Utilization:         %.2f%%%n", result.getCpuUtilization());
+            displayLatencyMetrics(result.getMetrics());
+            System.out.printf("│ Run Time:                %.2f ms%n", result.getStatistics().getWallTimeMillis());
+            System.out.printf("│ Dispatches:              %d%n", result.getStatistics().getDispatches());
+            System.out.printf("│ Context Switches:        %d%n", result.getStatistics().getContextSwitches());
+            System.out.println("└─────────────────────────────────────────────────────────────────────────────────┘");
+        } catch (CancellationException e) {
+            System.out.println("\n✗ Trace replay cancelled.");
+        } catch (NoSuchFileException e) {
+            System.out.println("✗ Trace file not found: " + path);
+        } catch (IOException e) {
+            System.out.println("✗ Could not replay trace: " + e.getMessage());
+        } finally {
+            endRun(progress);
+        }
+    }
+
+    /**
+     * Try a grid of time quanta on the loaded processes and report the Pareto front
+     */
+    private static void sweepQuanta() {
+        if (processes == null || processes.isEmpty()) {
+            System.out.println("\n✗ No processes loaded! Please load or input processes first.");
+            return;
+        }
+
+        System.out.println("\n┌─── SWEEP TIME QUANTA ─────────────────────────────────────────────────────────┐");
+        System.out.println("│ 1. Round Robin (one quantum per run)                                            │");
+        System.out.println("│ 2. Multilevel Queue (non-decreasing quanta for the 3 queues)                    │");
+        System.out.println("└─────────────────────────────────────────────────────────────────────────────────┘");
+        System.out.print("Select scheduler (1-2): ");
+        int choice = getIntInput();
+        if (choice != 1 && choice != 2) {
+            System.out.println("✗ Invalid choice!");
+            return;
+        }
+
+        System.out.print("Enter quanta to try (e.g. 1-16 or 2,4,8,16): ");
+        int[] values = parseQuanta(scanner.nextLine());
+        if (values == null) {
+            System.out.println("✗ Quanta must be positive numbers or ranges like 1-16.");
+            return;
+        }
+
+        ProcessTable workload = ProcessTable.fromProcesses(processes);
+        List<QuantumSweep.Point> points;
+        ConsoleProgress progress = startRun();
+        try {
+            points = choice == 1
+                    ? QuantumSweep.roundRobin(workload, values, progress)
+                    : QuantumSweep.multilevelQueue(workload, QuantumSweep.nonDecreasingQuanta(values, 3), progress);
+        } catch (CancellationException e) {
+            System.out.println("\n✗ Sweep cancelled.");
+            return;
+        } finally {
+            endRun(progress);
+        }
+
+        List<QuantumSweep.Point> front = QuantumSweep.paretoFront(points);
+        System.out.println("\n╔════════════════════════════════════════════════════════════════════════════════╗");
+        System.out.printf("║ QUANTUM SWEEP - %d runs, %d on the Pareto front (*)%n", points.size(), front.size());
+        System.out.println("╚════════════════════════════════════════════════════════════════════════════════╝");
+        System.out.printf("  %-36s %12s %12s %12s%n", "Configuration", "Avg Wait", "Avg TAT", "Ctx Switch");
+        for (QuantumSweep.Point point : points) {
+            System.out.printf("%s %-36s %12.2f %12.2f %12d%n", front.contains(point) ? "*" : " ",
+                    point.getAlgorithmName(), point.getAverageWaitingTime(),
+                    point.getAverageTurnaroundTime(), point.getContextSwitches());
+        }
+
+        System.out.println("\n┌─── PARETO FRONT (by average waiting time) ────────────────────────────────────┐");
+        for (QuantumSweep.Point point : front) {
+            System.out.println("│ " + point);
+        }
+        System.out.println("└─────────────────────────────────────────────────────────────────────────────────┘");
+    }
+
+    /**
+     * Compare all algorithms over many seeded random workloads with 95% confidence intervals
+     */
+    private static void runMonteCarlo() {
+        System.out.println("\n┌─── MONTE CARLO COMPARISON ────────────────────────────────────────────────────┐");
+        System.out.print("│ Number of runs (default 1000): ");
+        int runs = getIntInput();
+        System.out.print("│ Processes per run (default 50): ");
+        int count = getIntInput();
+        System.out.print("│ Max arrival time (default 100): ");
+        int maxArrival = getIntInput();
+        System.out.print("│ Max burst time (default 10): ");
+        int maxBurst = getIntInput();
+        System.out.print("│ Seed (blank for random): ");
+        String seedText = scanner.nextLine().trim();
+        System.out.println("└─────────────────────────────────────────────────────────────────────────────────┘");
+
+        runs = runs > 0 ? runs : 1000;
+        count = count > 0 ? count : 50;
+        maxArrival = maxArrival >= 0 ? maxArrival : 100;
+        maxBurst = maxBurst > 0 ? maxBurst : 10;
+        long seed;
+        try {
+            seed = seedText.isEmpty() ? new SplittableRandom().nextLong() : Long.parseLong(seedText);
+        } catch (NumberFormatException e) {
+            System.out.println("✗ Seed must be a whole number.");
+            return;
+        }
+
+        List<MonteCarloRunner.Summary> summaries;
+        ConsoleProgress progress = startRun();
+        try {
+            summaries = MonteCarloRunner.run(ComparisonRunner.defaultSchedulers(4),
+                    MonteCarloRunner.uniformWorkload(count, maxArrival, maxBurst, 4), runs, seed, progress);
+        } catch (CancellationException e) {
+            System.out.println("\n✗ Monte Carlo comparison cancelled.");
+            return;
+        } finally {
+            endRun(progress);
+        }
+
+        System.out.println("\n╔════════════════════════════════════════════════════════════════════════════════╗");
+        System.out.printf("║ MONTE CARLO - %d runs x %d processes, seed %d%n", runs, count, seed);
+        System.out.println("╚════════════════════════════════════════════════════════════════════════════════╝");
+        System.out.println("Per-run averages: mean ± 95% confidence interval, and percentiles over runs\n");
+        System.out.printf("%-36s %20s %8s %8s %8s %20s%n",
+                "Algorithm", "Avg Wait", "p50", "p90", "p99", "Avg Turnaround");
+        for (MonteCarloRunner.Summary summary : summaries) {
+            OnlineStatistics waiting = summary.getWaitingTime();
+            OnlineStatistics turnaround = summary.getTurnaroundTime();
+            System.out.printf("%-36s %11.2f ± %6.2f %8.2f %8.2f %8.2f %11.2f ± %6.2f%n",
+                    summary.getAlgorithmName(),
+                    waiting.getMean(), waiting.getConfidenceHalfWidth(0.95),
+                    waiting.getQuantile(0.5), waiting.getQuantile(0.9), waiting.getQuantile(0.99),
+                    turnaround.getMean(), turnaround.getConfidenceHalfWidth(0.95));
+        }
+    }
+
+    /**
+     * Parse a list such as "1-4,8,16" into distinct quanta in ascending order
+     * @return null if any entry is not a positive number or range
+     */
+    private static int[] parseQuanta(String text) {
+        TreeSet<Integer> quanta = new TreeSet<>();
+        try {
+            for (String part : text.split(",")) {
+                String[] range = part.trim().split("-", 2);
+                int from = Integer.parseInt(range[0].trim());
+                int to = range.length == 2 ? Integer.parseInt(range[1].trim()) : from;
+                if (from <= 0 || to < from || to - from > 10_000) {
+                    return null;
+                }
+                for (int q = from; q <= to; q++) {
+                    quanta.add(q);
+                }
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return quanta.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Ask for the arrival pattern and burst distribution of a synthetic workload
+     * @param defaultCount Number of processes if none is entered
+     * @return null if the input is invalid
+     */
+    private static WorkloadGenerator inputSyntheticWorkload(int defaultCount) {
+        System.out.println("\n┌─── SYNTHETIC WORKLOAD ────────────────────────────────────────────────────────┐");
+        System.out.print("│ Number of processes (default " + defaultCount + "): ");
+        int count = getIntInput();
+        System.out.print("│ Mean time between arrivals (default 10): ");
+        int gap = getIntInput();
+        System.out.println("│ Arrivals: 1. Poisson  2. Bursty on/off  3. Diurnal cycle");
+        System.out.print("│ Select arrival pattern (1-3): ");
+        int pattern = getIntInput();
+        System.out.print("│ Mean burst time (default 8): ");
+        int burst = getIntInput();
+        System.out.println("│ Bursts: 1. Exponential  2. Pareto (heavy tail)  3. Lognormal");
+        System.out.print("│ Select burst distribution (1-3): ");
+        int shape = getIntInput();
+        System.out.println("└─────────────────────────────────────────────────────────────────────────────────┘");
+
+        count = count > 0 ? count : defaultCount;
+        double rate = 1.0 / (gap > 0 ? gap : 10);
+        double meanBurst = burst > 0 ? burst : 8;
+
+        ArrivalProcess arrivals;
+        switch (pattern) {
+            case 1:
+                arrivals = ArrivalProcess.poisson(rate);
+                break;
+            case 2:
+                // ON at four times the mean rate for a fifth of the time; Pareto periods make the bursts self-similar
+                arrivals = ArrivalProcess.onOff(4 * rate, Distribution.paretoWithMean(1.5, 100 / rate),
+                        Distribution.paretoWithMean(1.5, 300 / rate));
+                break;
+            case 3:
+                arrivals = ArrivalProcess.diurnal(rate, 0.8, 10_000 / rate);
+                break;
+            default:
+                System.out.println("✗ Invalid choice!");
+                return null;
+        }
+
+        Distribution bursts;
+        switch (shape) {
+            case 1:
+                bursts = Distribution.exponential(meanBurst);
+                break;
+            case 2:
+                bursts = Distribution.paretoWithMean(1.5, meanBurst);
+                break;
+            case 3:
+                bursts = Distribution.lognormalWithMean(meanBurst, 1.0);
+                break;
+            default:
+                System.out.println("✗ Invalid choice!");
+                return null;
+        }
+        return new WorkloadGenerator(count, arrivals, bursts, 4, new SplittableRandom());
+    }
+
+    /**
+     * Ctrl-C cancels the run in progress, or exits when none is running
+     * sun.misc.Signal is looked up reflectively, so the build does not depend on
+     * the internal API; without it Ctrl-C falls back to the default behaviour (exit).
+     */
+    private static void installInterruptHandler() {
+        try {
+            Class<?> signalClass = Class.forName("sun.misc.Signal");
+            Class<?> handlerClass = Class.forName("sun.misc.SignalHandler");
+            Object handler = Proxy.newProxyInstance(handlerClass.getClassLoader(), new Class<?>[] {handlerClass},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "handle":
+                                interrupt();
+                                return null;
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            case "equals":
+                                return proxy == args[0];
+                            default:
+                                return "ProcessPilot interrupt handler";
+                        }
+                    });
+            Object signal = signalClass.getConstructor(String.class).newInstance("INT");
+            signalClass.getMethod("handle", signalClass, handlerClass).invoke(null, signal, handler);
+        } catch (ReflectiveOperationException | LinkageError | IllegalArgumentException e) {
+            // No signal support: Ctrl-C terminates the JVM as usual
+        }
+    }
+
+    private static void interrupt() {
+        ConsoleProgress run = activeRun;
+        if (run != null) {
+            run.cancel();
+        } else {
+            System.out.println("\n✓ Thank you for using ProcessPilot! Goodbye.\n");
+            System.exit(130);
+        }
+    }
+
+    private static ConsoleProgress startRun() {
+        ConsoleProgress progress = new ConsoleProgress();
+        activeRun = progress;
+        return progress;
+    }
+
+    private static void endRun(ConsoleProgress progress) {
+        if (activeRun == progress) {
+            activeRun = null;
+            progress.clear();
+        }
+    }
+
+    /**
+     * Single-line console progress display, redrawn with a carriage return
+     * Redraws at most every REDRAW_INTERVAL_NANOS; safe to call from the
+     * parallel comparison threads.
+     */
+    private static class ConsoleProgress implements ProgressMonitor {
+        private static final long REDRAW_INTERVAL_NANOS = 200_000_000L;
+
+        private volatile boolean cancelled;
+        private long lastRedraw = System.nanoTime();
+        private boolean drawn;
+
+        @Override
+        public synchronized void progress(long completed, long total, long simulatedTime) {
+            long now = System.nanoTime();
+            if (now - lastRedraw < REDRAW_INTERVAL_NANOS) {
+                return;
+            }
+            lastRedraw = now;
+            drawn = true;
+            if (total > 0) {
+                System.out.printf("\r  %5.1f%%  %,d / %,d processes  (time %,d)  Ctrl-C to cancel ",
+                        100.0 * completed / total, completed, total, simulatedTime);
+            } else {
+                System.out.printf("\r  %,d processes  (time %,d)  Ctrl-C to cancel ", completed, simulatedTime);
+            }
+            System.out.flush();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+
+        synchronized void clear() {
+            if (drawn) {
+                System.out.print("\r" + " ".repeat(79) + "\r");
+                System.out.flush();
+                drawn = false;
+            }
+        }
+    }
+
     private static void displaySchedulingResult(SchedulingResult result) {
         System.out.println("\n╔════════════════════════════════════════════════════════════════════════════════╗");
         System.out.println("║ SCHEDULING RESULT - " + result.getAlgorithmName());
         System.out.println("╚════════════════════════════════════════════════════════════════════════════════╝");
 
-        // Display Gantt Chart
-        GanttChart ganttChart = new GanttChart(result);
-        ganttChart.display();
+        // Display Gantt Chart, one lane per CPU
+        for (int cpu = 0; cpu < result.getCpuCount(); cpu++) {
+            GanttChart ganttChart = result.getCpuCount() > 1 ? new GanttChart(result, cpu) : new GanttChart(result);
+            ganttChart.display();
+        }
 
         // Display metrics
         System.out.println("\n┌─── METRICS ───────────────────────────────────────────────────────────────────┐");
         System.out.printf("│ Average Waiting Time:    %.2f%n", result.getAverageWaitingTime());
         System.out.printf("│ Average Turnaround Time: %.2f%n", result.getAverageTurnaroundTime());
         System.out.printf("│ CPU Utilization:         %.2f%%%n", result.getCpuUtilization());
+        for (int cpu = 0; result.getCpuCount() > 1 && cpu < result.getCpuCount(); cpu++) {
+            System.out.printf("│   CPU %-2d               %.2f%%%n", cpu, result.getCpuUtilization(cpu));
+        }
+        displayLatencyMetrics(result.getMetrics());
+        System.out.println("└─────────────────────────────────────────────────────────────────────────────────┘");
+
+        // Display run statistics
+        RunStatistics stats = result.getStatistics();
+        System.out.println("\n┌─── RUN STATISTICS ────────────────────────────────────────────────────────────┐");
+        System.out.printf("│ Run Time:                %s ms%n", RunStatistics.format(stats.getWallTimeMillis()));
+        System.out.printf("│ CPU Time:                %s ms%n", RunStatistics.format(stats.getCpuTimeMillis()));
+        System.out.printf("│ Allocated:               %s MB%n", RunStatistics.format(stats.getAllocatedMegabytes()));
+        System.out.printf("│ Dispatches:              %d%n", stats.getDispatches());
+        System.out.printf("│ Context Switches:        %d%n", stats.getContextSwitches());
+        System.out.printf("│ Peak Ready Queue:        %s%n", RunStatistics.format(stats.getPeakReadyQueue()));
+        if (result.getCpuCount() > 1) {
+            System.out.printf("│ Migrations:              %d%n", stats.getMigrations());
+        }
         System.out.println("└─────────────────────────────────────────────────────────────────────────────────┘");
 
         // Display process details
@@ -277,6 +785,22 @@ public class ProcessPilot {
         System.out.println("└─────────────────────────────────────────────────────────────────────────────────┘");
     }
 
+    /**
+     * Response time, bounded slowdown and waiting-time percentiles, inside a METRICS box
+     */
+    private static void displayLatencyMetrics(SchedulingMetrics metrics) {
+        if (metrics.getCompleted() == 0) {
+            return;
+        }
+        System.out.printf("│ Average Response Time:   %.2f (p99 %d)%n",
+                metrics.getAverageResponseTime(), metrics.getResponseTimePercentile(99));
+        System.out.printf("│ Average Slowdown:        %.2f (p99 %.2f)%n",
+                metrics.getAverageSlowdown(), metrics.getSlowdownPercentile(99));
+        System.out.printf("│ Waiting p50/p95/p99/p99.9: %d / %d / %d / %d%n",
+                metrics.getWaitingTimePercentile(50), metrics.getWaitingTimePercentile(95),
+                metrics.getWaitingTimePercentile(99), metrics.getWaitingTimePercentile(99.9));
+    }
+
     private static void displayProcesses() {
         if (processes == null || processes.isEmpty()) {
             System.out.println("✗ No processes to display!");
@@ -324,14 +848,6 @@ public class ProcessPilot {
         System.out.println();
     }
 
-    private static List<Process> copyProcesses() {
-        List<Process> copies = new ArrayList<>();
-        for (Process p : processes) {
-            copies.add(p.copy());
-        }
-        return copies;
-    }
-
     private static int getIntInput() {
         try {
             return Integer.parseInt(scanner.nextLine().trim());
@@ -0,0 +1,93 @@
+package algorithms;
+
+import models.ProcessTable;
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Arrival-ordered index over a process table
+ * Lets the event-driven schedulers admit arrivals through a cursor
+ * instead of rescanning every process on each decision
+ */
+final class ArrivalOrder {
+
+    private ArrivalOrder() {
+    }
+
+    /**
+     * Get the table rows sorted by arrival time, ties kept in row order
+     */
+    static int[] sortedIndices(ProcessTable table) {
+        return sortedIndices(table, false);
+    }
+
+    /**
+     * @param parallel Sort on the common fork-join pool, for very large tables
+     */
+    static int[] sortedIndices(ProcessTable table, boolean parallel) {
+        int n = table.size();
+        int[] arrival = table.getArrivalTimes();
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            // Arrival in the high word, row in the low word: one primitive sort, stable on ties
+            keys[i] = ((long) arrival[i] << 32) | i;
+        }
+        if (parallel) {
+            Arrays.parallelSort(keys);
+        } else {
+            Arrays.sort(keys);
+        }
+
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = (int) keys[i];
+        }
+        return order;
+    }
+
+    /**
+     * Whether the rows are already in arrival order, as in a trace, so sortedIndices() would return 0, 1, 2, ...
+     */
+    static boolean isSorted(ProcessTable table) {
+        int[] arrival = table.getArrivalTimes();
+        return IntStream.range(1, Math.max(table.size(), 1)).parallel().allMatch(i -> arrival[i - 1] <= arrival[i]);
+    }
+
+    /**
+     * Move a row to its new place in an order from sortedIndices() after its arrival time changed
+     * @param arrival Arrival times, already holding the row's new arrival
+     * @param oldArrival Arrival time the order was sorted with
+     */
+    static void move(int[] order, int[] arrival, int row, int oldArrival) {
+        long oldKey = ((long) oldArrival << 32) | row;
+        int from = 0;
+        int hi = order.length;
+        while (from < hi) {
+            int mid = (from + hi) >>> 1;
+            int other = order[mid];
+            long key = other == row ? oldKey : ((long) arrival[other] << 32) | other;
+            if (key < oldKey) {
+                from = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        System.arraycopy(order, from + 1, order, from, order.length - from - 1);
+
+        // Search the remaining n - 1 entries for the new position
+        long newKey = ((long) arrival[row] << 32) | row;
+        int to = 0;
+        hi = order.length - 1;
+        while (to < hi) {
+            int mid = (to + hi) >>> 1;
+            int other = order[mid];
+            if ((((long) arrival[other] << 32) | other) < newKey) {
+                to = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        System.arraycopy(order, to, order, to + 1, order.length - to - 1);
+        order[to] = row;
+    }
+}
@@ -0,0 +1,64 @@
+package algorithms;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Busy periods of a single CPU, found with a parallel prefix scan
+ * A work-conserving scheduler has finished everything that arrived before
+ * an idle gap by the time the gap starts, whatever order it ran it in, so
+ * every such scheduler has the idle gaps of FCFS. MaxPlusScan gives the time
+ * each block of the arrival order starts from, then the gaps in every block
+ * are found in parallel.
+ */
+final class BusyPeriods {
+
+    private BusyPeriods() {
+    }
+
+    /**
+     * Positions in the arrival order at which a busy period starts
+     * A process starts one when it arrives after every earlier process has
+     * completed; the first process always does.
+     * @param arrivalOrder Rows sorted by arrival time, ties in row order
+     * @return Ascending positions, or null if some row has already run (remaining time below its burst)
+     */
+    static int[] starts(int[] arrival, int[] burst, int[] remaining, int[] arrivalOrder) {
+        int n = arrivalOrder.length;
+        if (IntStream.range(0, n).parallel().anyMatch(row -> remaining[row] != burst[row])) {
+            return null;
+        }
+        MaxPlusScan scan = new MaxPlusScan(n);
+        long[] carry = scan.startTimes(arrival, burst, arrivalOrder);
+
+        int[][] found = new int[scan.blocks()][];
+        IntStream.range(0, scan.blocks()).parallel().forEach(b -> {
+            int[] positions = new int[16];
+            int count = 0;
+            long time = carry[b];
+            for (int i = scan.from(b), end = scan.to(b); i < end; i++) {
+                int row = arrivalOrder[i];
+                if (arrival[row] > time || i == 0) {
+                    if (count == positions.length) {
+                        positions = Arrays.copyOf(positions, count * 2);
+                    }
+                    positions[count++] = i;
+                }
+                time = Math.max(time, arrival[row]) + burst[row];
+            }
+            found[b] = Arrays.copyOf(positions, count);
+        });
+
+        int count = 0;
+        for (int[] positions : found) {
+            count += positions.length;
+        }
+        int[] starts = new int[count];
+        int at = 0;
+        for (int[] positions : found) {
+            System.arraycopy(positions, 0, starts, at, positions.length);
+            at += positions.length;
+        }
+        return starts;
+    }
+}
@@ -0,0 +1,62 @@
+package algorithms;
+
+import java.util.*;
+
+/**
+ * How SRTF's chart layout depends on the lead it starts a run with
+ * The lead is how many more boundary times than slices the chart holds. The
+ * layout, kept from the tick-based simulation, adds a time when a process
+ * resumes while the lead is 0; otherwise a slice opens with every first run
+ * and a time closes it with every completion. So the lead at a resumption is
+ * the starting lead plus the times added so far, minus the processes started
+ * but not completed, and recording that count at every resumption gives the
+ * layout of the run for any starting lead.
+ */
+final class ChartLead {
+    private final int start;
+    private int[] open = new int[16];
+    private int count;
+
+    /**
+     * @param start Lead of the chart before the run
+     */
+    ChartLead(int start) {
+        this.start = start;
+    }
+
+    int getStart() {
+        return start;
+    }
+
+    /**
+     * Times the run's own chart opens with, standing in for the lead
+     * A lead above the number of processes acts like any other such lead.
+     */
+    int openingTimes(int processes) {
+        return (int) Math.min(start, processes + 1L);
+    }
+
+    /**
+     * Record a resumption that adds a time when the lead is 0
+     * @param started Processes started but not completed, including the resumed one
+     */
+    void resumed(int started) {
+        if (count == open.length) {
+            open = Arrays.copyOf(open, count * 2);
+        }
+        open[count++] = started;
+    }
+
+    /**
+     * Lead at the end of the run had it started with the given lead
+     */
+    int after(int lead) {
+        int added = 0;
+        for (int i = 0; i < count; i++) {
+            if (open[i] == lead + added) {
+                added++;
+            }
+        }
+        return lead + added;
+    }
+}
@@ -0,0 +1,53 @@
+package algorithms;
+
+import models.RunStatistics;
+
+/**
+ * Engine state at the top of a scheduling loop iteration
+ * Everything the run did before this point depends only on the processes
+ * admitted so far (the first cursor entries of the arrival order), so a
+ * run can be resumed here after any process that arrives later is edited.
+ */
+final class Checkpoint {
+    final int time;
+    final int cursor;          // arrivals admitted so far
+    final int[] registers;     // engine-specific loop variables
+    final int[][] queues;      // ready rows of each queue, in internal order
+    final int[][] remaining;   // remaining time of each queued row
+    final int[][] starts;      // first dispatch time of each queued row, -1 if not yet run
+    final int sliceCount;      // Gantt timeline length
+    final int timeCount;
+    final RunStatistics statistics;
+
+    Checkpoint(int time, int cursor, int[] registers, int[][] queues, int[][] remaining,
+               int[][] starts, int sliceCount, int timeCount, RunStatistics statistics) {
+        this.time = time;
+        this.cursor = cursor;
+        this.registers = registers;
+        this.queues = queues;
+        this.remaining = remaining;
+        this.starts = starts;
+        this.sliceCount = sliceCount;
+        this.timeCount = timeCount;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Number of rows waiting in the ready queues
+     */
+    int queuedCount() {
+        int count = 0;
+        for (int[] queue : queues) {
+            count += queue.length;
+        }
+        return count;
+    }
+
+    /**
+     * Same checkpoint with the Gantt position and counters of another run
+     */
+    Checkpoint withRun(int sliceCount, int timeCount, RunStatistics statistics) {
+        return new Checkpoint(time, cursor, registers, queues, remaining, starts,
+                sliceCount, timeCount, statistics);
+    }
+}
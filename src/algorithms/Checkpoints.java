@@ -0,0 +1,343 @@
+package algorithms;
+
+import models.GanttTimeline;
+import models.ProcessTable;
+import models.RunStatistics;
+import models.SchedulingResult;
+import java.util.*;
+
+/**
+ * Checkpoint bookkeeping for one run of a Resumable engine
+ * Engines call due() at the top of every main-loop iteration and, when it
+ * returns true, capture() with their loop state. A checkpoint is recorded
+ * every interval iterations.
+ *
+ * When resuming after an edit, the run starts from the previous run's last
+ * checkpoint before the earliest edited arrival. From then on its state is
+ * compared with the previous run's later checkpoints; once they match and
+ * every edited process has finished, the rest of the previous run is
+ * copied in and capture() returns true, so the engine can stop early.
+ */
+final class Checkpoints {
+    static final int INTERVAL = 1024;
+    static final int[] NO_REGISTERS = new int[0];
+
+    private final ProcessTable table;
+    private final int[] arrivalOrder;
+    private final SchedulingResult previous;            // null for a full run
+    private final List<Checkpoint> previousCheckpoints;
+    private final int[] editedRows;
+    private final Checkpoint start;                     // null to run from time zero
+    private final List<Checkpoint> recorded;
+    private final long storageBudget;                   // queued rows kept across all checkpoints
+
+    private int interval = INTERVAL;
+    private int countdown = 1;                          // record the state before the first iteration
+    private long stored;
+    private int nextPrevious;                           // first previous checkpoint not yet passed
+    private SchedulingResult result;
+    private ProgressTracker progress;
+
+    /**
+     * Full run that records checkpoints
+     */
+    Checkpoints(ProcessTable table, int[] arrivalOrder) {
+        this(table, arrivalOrder, null, Collections.emptyList(), Integer.MIN_VALUE, new int[0]);
+    }
+
+    /**
+     * Run that resumes the previous run before the earliest changed arrival
+     * @param table Workload with the edits applied and no results
+     * @param arrivalOrder Table rows sorted by arrival time, ties in row order
+     * @param previous Result of the previous run, scheduled from the table before the edits
+     * @param previousCheckpoints Checkpoints recorded by the previous run
+     * @param changedFrom Earliest old or new arrival time of an edited row
+     * @param editedRows Rows edited since the previous run
+     */
+    Checkpoints(ProcessTable table, int[] arrivalOrder, SchedulingResult previous,
+                List<Checkpoint> previousCheckpoints, int changedFrom, int[] editedRows) {
+        this.table = table;
+        this.arrivalOrder = arrivalOrder;
+        this.previous = previous;
+        this.previousCheckpoints = previousCheckpoints;
+        this.editedRows = editedRows;
+        this.storageBudget = 16L * table.size() + 65536;
+
+        int startIndex = -1;
+        if (previous != null) {
+            // Last checkpoint strictly before the change: nothing edited had arrived yet
+            while (startIndex + 1 < previousCheckpoints.size()
+                    && previousCheckpoints.get(startIndex + 1).time < changedFrom) {
+                startIndex++;
+            }
+        }
+        this.start = startIndex >= 0 ? previousCheckpoints.get(startIndex) : null;
+        this.recorded = new ArrayList<>(previousCheckpoints.subList(0, startIndex + 1));
+        for (Checkpoint checkpoint : recorded) {
+            stored += checkpoint.queuedCount();
+        }
+        this.nextPrevious = startIndex + 1;
+        if (start != null) {
+            countdown = interval;
+            restoreTable();
+        }
+    }
+
+    ProcessTable getTable() {
+        return table;
+    }
+
+    int[] getArrivalOrder() {
+        return arrivalOrder;
+    }
+
+    /**
+     * Checkpoint to resume from, or null to start at time zero
+     */
+    Checkpoint getStart() {
+        return start;
+    }
+
+    /**
+     * Checkpoints recorded by this run, for the next incremental run
+     */
+    List<Checkpoint> getRecorded() {
+        return recorded;
+    }
+
+    /**
+     * Final time of the previous run, reached when the run converges with it
+     */
+    int getEndTime() {
+        return previous.getGanttTimeline().getEndTime();
+    }
+
+    /**
+     * Prepare the result for the run and create its progress tracker
+     * Restores the Gantt chart and counters up to the start checkpoint.
+     * Call before reading result.getStatistics().
+     */
+    ProgressTracker begin(SchedulingResult result, ProgressMonitor monitor) {
+        this.result = result;
+        this.progress = new ProgressTracker(monitor, table.size());
+        if (start != null) {
+            result.setGanttTimeline(previous.getGanttTimeline().prefix(start.sliceCount, start.timeCount));
+            result.setStatistics(start.statistics.copy());
+            progress.setCompleted(start.cursor - start.queuedCount());
+        }
+        return progress;
+    }
+
+    /**
+     * Cheap test at the top of each loop iteration
+     * @return true if the engine should call capture() now
+     */
+    boolean due(int time, int cursor) {
+        while (nextPrevious < previousCheckpoints.size() && isBefore(previousCheckpoints.get(nextPrevious), time, cursor)) {
+            nextPrevious++;
+        }
+        if (--countdown <= 0) {
+            return true;
+        }
+        return nextPrevious < previousCheckpoints.size()
+                && previousCheckpoints.get(nextPrevious).time == time
+                && previousCheckpoints.get(nextPrevious).cursor == cursor;
+    }
+
+    /**
+     * Record the engine state if an interval has passed, and try to converge with the previous run
+     * @param registers Engine loop variables other than time and cursor
+     * @param queues Ready rows of each queue, from ReadyHeap/IndexQueue.toArray()
+     * @return true if the rest of the previous run has been copied into the
+     *         result; the engine must then stop without further Gantt updates
+     */
+    boolean capture(int time, int cursor, int[] registers, int[]... queues) {
+        int[] remainingTimes = table.getRemainingTimes();
+        int[] startTimes = table.getStartTimes();
+        int[][] remaining = new int[queues.length][];
+        int[][] starts = new int[queues.length][];
+        for (int q = 0; q < queues.length; q++) {
+            remaining[q] = new int[queues[q].length];
+            starts[q] = new int[queues[q].length];
+            for (int i = 0; i < queues[q].length; i++) {
+                remaining[q][i] = remainingTimes[queues[q][i]];
+                starts[q][i] = startTimes[queues[q][i]];
+            }
+        }
+        GanttTimeline gantt = result.getGanttTimeline();
+        Checkpoint checkpoint = new Checkpoint(time, cursor, registers, queues, remaining, starts,
+                gantt.getSliceCount(), gantt.getTimeCount(), result.getStatistics().copy());
+
+        boolean record = countdown <= 0;
+        if (record) {
+            countdown = interval;
+        }
+
+        // due() has already skipped past previous checkpoints that are behind this state
+        if (nextPrevious < previousCheckpoints.size()) {
+            Checkpoint earlier = previousCheckpoints.get(nextPrevious);
+            if (earlier.time == time && earlier.cursor == cursor && sameState(checkpoint, earlier)
+                    && splice(checkpoint, earlier)) {
+                record(checkpoint);
+                adoptRemainingCheckpoints(checkpoint, earlier);
+                return true;
+            }
+        }
+        if (record) {
+            record(checkpoint);
+        }
+        return false;
+    }
+
+    /**
+     * Copy results from the previous run for rows finished before the start
+     * checkpoint, and put the rows waiting there back in their checkpoint state
+     */
+    private void restoreTable() {
+        ProcessTable before = previous.getProcessTable();
+        int n = table.size();
+        System.arraycopy(before.getRemainingTimes(), 0, table.getRemainingTimes(), 0, n);
+        System.arraycopy(before.getStartTimes(), 0, table.getStartTimes(), 0, n);
+        System.arraycopy(before.getCompletionTimes(), 0, table.getCompletionTimes(), 0, n);
+        System.arraycopy(before.getWaitingTimes(), 0, table.getWaitingTimes(), 0, n);
+        System.arraycopy(before.getTurnaroundTimes(), 0, table.getTurnaroundTimes(), 0, n);
+
+        int[] remainingTimes = table.getRemainingTimes();
+        int[] startTimes = table.getStartTimes();
+        for (int q = 0; q < start.queues.length; q++) {
+            for (int i = 0; i < start.queues[q].length; i++) {
+                int row = start.queues[q][i];
+                table.resetResults(row);
+                remainingTimes[row] = start.remaining[q][i];
+                startTimes[row] = start.starts[q][i];
+            }
+        }
+        for (int i = start.cursor; i < n; i++) {
+            table.resetResults(arrivalOrder[i]);
+        }
+    }
+
+    private static boolean isBefore(Checkpoint checkpoint, int time, int cursor) {
+        return checkpoint.time < time || (checkpoint.time == time && checkpoint.cursor < cursor);
+    }
+
+    /**
+     * Whether both runs will behave identically from here on
+     * Requires the same loop state and that every edited row has already
+     * finished, so the rows still to run have the same inputs in both.
+     */
+    private boolean sameState(Checkpoint current, Checkpoint earlier) {
+        if (!Arrays.equals(current.registers, earlier.registers)
+                || !Arrays.deepEquals(current.queues, earlier.queues)
+                || !Arrays.deepEquals(current.remaining, earlier.remaining)
+                || !Arrays.deepEquals(current.starts, earlier.starts)) {
+            return false;
+        }
+        for (int row : editedRows) {
+            if (!isAdmitted(row, current.cursor)) {
+                return false;
+            }
+            for (int[] queue : current.queues) {
+                for (int queued : queue) {
+                    if (queued == row) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the row comes before position cursor in the arrival order
+     */
+    private boolean isAdmitted(int row, int cursor) {
+        if (cursor >= arrivalOrder.length) {
+            return true;
+        }
+        int[] arrival = table.getArrivalTimes();
+        int next = arrivalOrder[cursor];
+        return arrival[row] < arrival[next] || (arrival[row] == arrival[next] && row < next);
+    }
+
+    /**
+     * Continue the result with the previous run's Gantt chart, counters and
+     * completion times from the matching checkpoint onward
+     * @return false, changing nothing, if the Gantt joins or counters cannot be combined exactly
+     */
+    private boolean splice(Checkpoint current, Checkpoint earlier) {
+        GanttTimeline gantt = result.getGanttTimeline();
+        GanttTimeline before = previous.getGanttTimeline();
+
+        // The open/closed state of the last slice, its process and its last
+        // boundary time decide how the next Gantt update merges
+        if (current.timeCount == 0 || earlier.timeCount == 0
+                || current.timeCount - current.sliceCount != earlier.timeCount - earlier.sliceCount
+                || (current.sliceCount == 0) != (earlier.sliceCount == 0)
+                || gantt.getTime(current.timeCount - 1) != before.getTime(earlier.timeCount - 1)) {
+            return false;
+        }
+        if (current.sliceCount > 0
+                && gantt.getProcessId(current.sliceCount - 1) != before.getProcessId(earlier.sliceCount - 1)) {
+            return false;
+        }
+        if (!result.getStatistics().append(earlier.statistics, previous.getStatistics())) {
+            return false;
+        }
+
+        // Only the last boundary time can be rewritten by later updates, so join just before it
+        gantt.truncate(current.sliceCount, current.timeCount - 1);
+        gantt.append(before, earlier.sliceCount, earlier.timeCount - 1);
+
+        // Queued rows have the same start times in both runs, so only those still to run need one
+        int[] completion = previous.getProcessTable().getCompletionTimes();
+        int[] started = previous.getProcessTable().getStartTimes();
+        for (int[] queue : current.queues) {
+            for (int row : queue) {
+                table.start(row, started[row]);
+                table.complete(row, completion[row]);
+            }
+        }
+        for (int i = current.cursor; i < arrivalOrder.length; i++) {
+            int row = arrivalOrder[i];
+            table.start(row, started[row]);
+            table.complete(row, completion[row]);
+        }
+        progress.setCompleted(table.size());
+        return true;
+    }
+
+    /**
+     * Keep the previous run's later checkpoints, shifted onto this run's Gantt chart and counters
+     * Checkpoints whose peak ready-queue length would be ambiguous are dropped.
+     */
+    private void adoptRemainingCheckpoints(Checkpoint current, Checkpoint earlier) {
+        for (int i = nextPrevious + 1; i < previousCheckpoints.size(); i++) {
+            Checkpoint later = previousCheckpoints.get(i);
+            RunStatistics statistics = current.statistics.copy();
+            if (statistics.append(earlier.statistics, later.statistics)) {
+                record(later.withRun(later.sliceCount - earlier.sliceCount + current.sliceCount,
+                        later.timeCount - earlier.timeCount + current.timeCount, statistics));
+            }
+        }
+    }
+
+    /**
+     * Append a checkpoint, halving the density if the stored queues grow too large
+     */
+    private void record(Checkpoint checkpoint) {
+        recorded.add(checkpoint);
+        stored += checkpoint.queuedCount();
+        if (stored > storageBudget && recorded.size() > 1) {
+            List<Checkpoint> kept = new ArrayList<>();
+            stored = 0;
+            for (int i = 0; i < recorded.size(); i += 2) {
+                kept.add(recorded.get(i));
+                stored += recorded.get(i).queuedCount();
+            }
+            recorded.clear();
+            recorded.addAll(kept);
+            interval *= 2;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package algorithms;
+
+import models.Process;
+import models.ProcessTable;
+import models.RunStatistics;
+import models.SchedulingMetrics;
+import models.SchedulingResult;
+import java.util.*;
+
+/**
+ * Completely Fair Scheduler (CFS) Algorithm, after the Linux fair class
+ * A process's priority is its nice level (clamped to -20..19), which gives it
+ * the Linux load weight. Each process accumulates virtual runtime, its CPU
+ * time scaled by NICE_0_LOAD / weight, and the process with the least
+ * virtual runtime runs next. The runnable processes are a red-black tree
+ * (TreeSet) keyed on virtual runtime, with equal keys in queue order, so each
+ * dispatch is O(log n).
+ *
+ * A dispatch runs for the process's share of the scheduling period, which is
+ * the target latency, stretched to minGranularity per runnable process when
+ * there are many. New processes start at the queue's minimum virtual runtime,
+ * so they neither starve others nor wait behind them, and, as in the Round
+ * Robin and Multilevel Queue schedulers, wait for the running slice to end.
+ */
+public class CompletelyFairScheduler implements Scheduler {
+    public static final int NICE_0_LOAD = 1024;
+
+    /** Linux sched_prio_to_weight, nice -20 to 19 */
+    private static final int[] NICE_TO_WEIGHT = {
+        /* -20 */ 88761, 71755, 56483, 46273, 36291,
+        /* -15 */ 29154, 23254, 18705, 14949, 11916,
+        /* -10 */ 9548, 7620, 6100, 4904, 3906,
+        /*  -5 */ 3121, 2501, 1991, 1586, 1277,
+        /*   0 */ 1024, 820, 655, 526, 423,
+        /*   5 */ 335, 272, 215, 172, 137,
+        /*  10 */ 110, 87, 70, 56, 45,
+        /*  15 */ 36, 29, 23, 18, 15,
+    };
+
+    /** Virtual runtime is kept in 1/1024ths of a nice-0 time unit, so light weights do not round to 0 */
+    private static final int VRUNTIME_SHIFT = 10;
+
+    private final int targetLatency;
+    private final int minGranularity;
+
+    public CompletelyFairScheduler() {
+        this(24, 3); // Linux's 8:1 ratio of latency to granularity
+    }
+
+    /**
+     * @param targetLatency Period in which every runnable process should run once
+     * @param minGranularity Shortest slice a process gets when many are runnable
+     */
+    public CompletelyFairScheduler(int targetLatency, int minGranularity) {
+        if (targetLatency <= 0 || minGranularity <= 0) {
+            throw new IllegalArgumentException("Target latency and minimum granularity must be positive: "
+                    + targetLatency + ", " + minGranularity);
+        }
+        this.targetLatency = targetLatency;
+        this.minGranularity = minGranularity;
+    }
+
+    public int getTargetLatency() {
+        return targetLatency;
+    }
+
+    public int getMinGranularity() {
+        return minGranularity;
+    }
+
+    /**
+     * Load weight of a nice level, clamped to -20..19
+     */
+    public static int weightOf(int nice) {
+        return NICE_TO_WEIGHT[Math.min(Math.max(nice, -20), 19) + 20];
+    }
+
+    @Override
+    public SchedulingResult schedule(List<Process> processes) {
+        return schedule(processes, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public SchedulingResult schedule(List<Process> processes, ProgressMonitor monitor) {
+        SchedulingResult result = new SchedulingResult(getAlgorithmName());
+
+        // Create copies to avoid modifying original list
+        List<Process> processCopies = new ArrayList<>();
+        for (Process p : processes) {
+            processCopies.add(p.copy());
+        }
+
+        ProcessTable table = ProcessTable.fromProcesses(processCopies);
+        run(table, result, monitor);
+        table.copyResultsTo(processCopies);
+
+        // Report processes in arrival order
+        processCopies.sort((a, b) -> Integer.compare(a.getArrivalTime(), b.getArrivalTime()));
+        result.setProcesses(processCopies);
+
+        return result;
+    }
+
+    @Override
+    public SchedulingResult schedule(ProcessTable processes) {
+        return schedule(processes, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public SchedulingResult schedule(ProcessTable processes, ProgressMonitor monitor) {
+        SchedulingResult result = new SchedulingResult(getAlgorithmName());
+        ProcessTable table = processes.copy();
+        run(table, result, monitor);
+        result.setProcessTable(table);
+        return result;
+    }
+
+    private void run(ProcessTable table, SchedulingResult result, ProgressMonitor monitor) {
+        int n = table.size();
+        int[] arrival = table.getArrivalTimes();
+        int[] remaining = table.getRemainingTimes();
+        int[] priority = table.getPriorities();
+        int[] pid = table.getProcessIds();
+        int[] arrivalOrder = ArrivalOrder.sortedIndices(table);
+
+        // Equal virtual runtimes are kept in queue order, as Linux inserts them to the right
+        long[] vruntime = new long[n];
+        long[] queued = new long[n];
+        TreeSet<Integer> runnable = new TreeSet<>((a, b) -> vruntime[a] != vruntime[b]
+                ? Long.compare(vruntime[a], vruntime[b]) : Long.compare(queued[a], queued[b]));
+        long minVruntime = 0;
+        long totalWeight = 0;
+        long sequence = 0;
+
+        ProgressTracker progress = new ProgressTracker(monitor, n);
+        RunStatistics stats = result.getStatistics();
+        result.addToGanttTime(0);
+
+        int currentTime = n > 0 ? arrival[arrivalOrder[0]] : 0;
+        int index = 0;
+
+        while (index < n || !runnable.isEmpty()) {
+            // New processes start at the minimum virtual runtime
+            while (index < n && arrival[arrivalOrder[index]] <= currentTime) {
+                int row = arrivalOrder[index++];
+                vruntime[row] = minVruntime;
+                queued[row] = sequence++;
+                totalWeight += weightOf(priority[row]);
+                runnable.add(row);
+            }
+
+            if (runnable.isEmpty()) {
+                // No process ready, jump to next arrival
+                currentTime = arrival[arrivalOrder[index]];
+                continue;
+            }
+
+            stats.observeReadyQueue(runnable.size());
+            int current = runnable.pollFirst();
+            stats.recordDispatch(pid[current]);
+            table.start(current, currentTime);
+            progress.tick(currentTime);
+
+            // Share of the period in proportion to weight
+            int weight = weightOf(priority[current]);
+            long period = Math.max(targetLatency, (long) (runnable.size() + 1) * minGranularity);
+            long slice = Math.max(1, period * weight / totalWeight);
+            int timeToExecute = (int) Math.min(remaining[current], slice);
+            result.addToGanttChart(pid[current]);
+            currentTime += timeToExecute;
+            remaining[current] -= timeToExecute;
+            vruntime[current] += ((long) timeToExecute * NICE_0_LOAD << VRUNTIME_SHIFT) / weight;
+
+            // The minimum only moves forward, so newcomers never start behind earlier ones
+            long leftmost = runnable.isEmpty() ? vruntime[current] : vruntime[runnable.first()];
+            minVruntime = Math.max(minVruntime, remaining[current] > 0
+                    ? Math.min(leftmost, vruntime[current]) : leftmost);
+
+            // Add newly arrived processes before the preempted one rejoins
+            while (index < n && arrival[arrivalOrder[index]] <= currentTime) {
+                int row = arrivalOrder[index++];
+                vruntime[row] = minVruntime;
+                queued[row] = sequence++;
+                totalWeight += weightOf(priority[row]);
+                runnable.add(row);
+            }
+
+            if (remaining[current] > 0) {
+                queued[current] = sequence++;
+                runnable.add(current);
+            } else {
+                totalWeight -= weight;
+                table.complete(current, currentTime);
+                progress.complete();
+            }
+
+            result.addToGanttTime(currentTime);
+        }
+        progress.finish(currentTime);
+
+        SchedulingMetrics.of(table).applyTo(result, result.getGanttTimeline().getEndTime());
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Completely Fair (latency=" + targetLatency + ", granularity=" + minGranularity + ")";
+    }
+}
@@ -1,76 +1,278 @@
 package algorithms;
 
+import models.GanttTimeline;
 import models.Process;
+import models.ProcessTable;
+import models.RunStatistics;
+import models.SchedulingMetrics;
 import models.SchedulingResult;
+import trace.TraceReader;
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
 
 /**
  * First Come First Served (FCFS) Scheduling Algorithm
  * Processes are scheduled in the order they arrive
  */
-public class FCFSScheduler implements Scheduler {
+public class FCFSScheduler implements StreamingScheduler, Resumable {
+    /** Tables at least this large are scheduled with a parallel prefix scan */
+    public static final int PARALLEL_MIN_PROCESSES = 1 << 18;
 
     @Override
     public SchedulingResult schedule(List<Process> processes) {
+        return schedule(processes, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public SchedulingResult schedule(List<Process> processes, ProgressMonitor monitor) {
         SchedulingResult result = new SchedulingResult("FCFS");
-        
+
         // Create copies to avoid modifying original list
         List<Process> processCopies = new ArrayList<>();
         for (Process p : processes) {
             processCopies.add(p.copy());
         }
-        
-        // Sort by arrival time
+
+        ProcessTable table = ProcessTable.fromProcesses(processCopies);
+        run(table, result, monitor, null);
+        table.copyResultsTo(processCopies);
+
+        // Report processes in arrival order
         processCopies.sort((a, b) -> Integer.compare(a.getArrivalTime(), b.getArrivalTime()));
+        result.setProcesses(processCopies);
+
+        return result;
+    }
+
+    @Override
+    public SchedulingResult schedule(ProcessTable processes) {
+        return schedule(processes, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public SchedulingResult schedule(ProcessTable processes, ProgressMonitor monitor) {
+        SchedulingResult result = new SchedulingResult("FCFS");
+        ProcessTable table = processes.copy();
+        run(table, result, monitor, null);
+        result.setProcessTable(table);
+        return result;
+    }
+
+    @Override
+    public boolean supportsCheckpoints() {
+        return true;
+    }
+
+    @Override
+    public SchedulingResult resume(Checkpoints checkpoints, ProgressMonitor monitor) {
+        SchedulingResult result = new SchedulingResult("FCFS");
+        run(checkpoints.getTable(), result, monitor, checkpoints);
+        result.setProcessTable(checkpoints.getTable());
+        return result;
+    }
+
+    /**
+     * Stream a trace in constant memory: each process is run as soon as it is read
+     * The ready queue is never materialised, so peak ready-queue length is reported as not measured.
+     */
+    @Override
+    public SchedulingResult schedule(TraceReader trace, ProgressMonitor monitor) throws IOException {
+        SchedulingResult result = new SchedulingResult("FCFS");
+        RunStatistics stats = result.getStatistics();
+        stats.markReadyQueueUnmeasured();
+        SchedulingMetrics metrics = new SchedulingMetrics();
+        ProgressTracker progress = new ProgressTracker(monitor, -1);
+
+        long currentTime = 0;
+        while (trace.next()) {
+            if (currentTime < trace.arrivalTime()) {
+                currentTime = trace.arrivalTime();
+            }
+            stats.recordDispatch(trace.processId());
+            progress.tick(currentTime);
+            metrics.recordResponse(currentTime - trace.arrivalTime());
+            currentTime += trace.burstTime();
+            metrics.recordCompletion(trace.arrivalTime(), trace.burstTime(), currentTime);
+            progress.complete();
+        }
+
+        progress.finish(currentTime);
+        metrics.applyTo(result, currentTime);
+        return result;
+    }
+
+    /**
+     * @param checkpoints Checkpoint log for incremental runs, or null
+     */
+    private void run(ProcessTable table, SchedulingResult result, ProgressMonitor monitor,
+                     Checkpoints checkpoints) {
+        if (checkpoints == null && table.size() >= PARALLEL_MIN_PROCESSES) {
+            runParallel(table, result, monitor);
+            return;
+        }
+        int[] arrival = table.getArrivalTimes();
+        int[] burst = table.getBurstTimes();
+        int[] pid = table.getProcessIds();
+        int[] arrivalOrder = checkpoints != null ? checkpoints.getArrivalOrder() : ArrivalOrder.sortedIndices(table);
+        ProgressTracker progress = checkpoints != null
+                ? checkpoints.begin(result, monitor) : new ProgressTracker(monitor, table.size());
+        RunStatistics stats = result.getStatistics();
+        Checkpoint start = checkpoints != null ? checkpoints.getStart() : null;
 
         int currentTime = 0;
-        result.addToGanttTime(0);
+        int first = 0;
+        if (start != null) {
+            currentTime = start.time;
+            first = start.cursor;
+        } else {
+            result.addToGanttTime(0);
+        }
+        int arrived = first;
+
+        for (int i = first; i < arrivalOrder.length; i++) {
+            if (checkpoints != null && checkpoints.due(currentTime, i)
+                    && checkpoints.capture(currentTime, i, Checkpoints.NO_REGISTERS)) {
+                currentTime = checkpoints.getEndTime();
+                break;
+            }
+            int row = arrivalOrder[i];
 
-        for (Process process : processCopies) {
             // If process hasn't arrived yet, wait
-            if (currentTime < process.getArrivalTime()) {
-                currentTime = process.getArrivalTime();
+            if (currentTime < arrival[row]) {
+                currentTime = arrival[row];
             }
 
+            // Everything arrived but not yet run is waiting in the ready queue
+            while (arrived < arrivalOrder.length && arrival[arrivalOrder[arrived]] <= currentTime) {
+                arrived++;
+            }
+            stats.observeReadyQueue(arrived - i);
+            stats.recordDispatch(pid[row]);
+            table.start(row, currentTime);
+            progress.tick(currentTime);
+
             // Process executes
-            result.addToGanttChart(process.getProcessId());
-            currentTime += process.getBurstTime();
+            result.addToGanttChart(pid[row]);
+            currentTime += burst[row];
             result.addToGanttTime(currentTime);
 
             // Calculate metrics
-            process.setCompletionTime(currentTime);
-            process.setTurnaroundTime(process.getCompletionTime() - process.getArrivalTime());
-            process.setWaitingTime(process.getTurnaroundTime() - process.getBurstTime());
+            table.complete(row, currentTime);
+            progress.complete();
         }
+        progress.finish(currentTime);
 
-        // Calculate averages
-        calculateMetrics(processCopies, result);
-        result.setProcesses(processCopies);
-
-        return result;
+        // Averages, percentiles and CPU utilization
+        SchedulingMetrics.of(table).applyTo(result, result.getGanttTimeline().getEndTime());
     }
 
-    @Override
-    public String getAlgorithmName() {
-        return "FCFS (First Come First Served)";
-    }
+    /**
+     * Run large tables in parallel: MaxPlusScan gives the time each block of
+     * the arrival order starts from, each block is then run on its own
+     * fork-join task exactly as the sequential loop would, and the blocks'
+     * Gantt charts and counters are joined in order, giving the same result
+     * as the sequential loop. Tables already in arrival order, as traces
+     * are, are not sorted.
+     */
+    private void runParallel(ProcessTable table, SchedulingResult result, ProgressMonitor monitor) {
+        int n = table.size();
+        int[] arrival = table.getArrivalTimes();
+        int[] burst = table.getBurstTimes();
+        int[] pid = table.getProcessIds();
+        int[] arrivalOrder = ArrivalOrder.isSorted(table) ? null : ArrivalOrder.sortedIndices(table, true);
+        result.getStatistics().markParallel();
+        MaxPlusScan scan = new MaxPlusScan(n);
+        long[] blockStart = scan.startTimes(arrival, burst, arrivalOrder);
 
-    private void calculateMetrics(List<Process> processes, SchedulingResult result) {
-        double totalWaitingTime = 0;
-        double totalTurnaroundTime = 0;
-        int totalBurstTime = 0;
+        GanttTimeline[] charts = new GanttTimeline[scan.blocks()];
+        RunStatistics[] counters = new RunStatistics[scan.blocks()];
+        AtomicLongArray completedPerBlock = new AtomicLongArray(scan.blocks());
+        AtomicLong completed = new AtomicLong();
+        IntStream.range(0, scan.blocks()).parallel().forEach(b -> {
+            ProgressTracker progress = new ProgressTracker(new ProgressMonitor() {
+                @Override
+                public void progress(long blockCompleted, long total, long simulatedTime) {
+                    long sum = completed.addAndGet(blockCompleted - completedPerBlock.getAndSet(b, blockCompleted));
+                    monitor.progress(sum, n, simulatedTime);
+                }
 
-        for (Process p : processes) {
-            totalWaitingTime += p.getWaitingTime();
-            totalTurnaroundTime += p.getTurnaroundTime();
-            totalBurstTime += p.getBurstTime();
+                @Override
+                public boolean isCancelled() {
+                    return monitor.isCancelled();
+                }
+            }, n);
+            GanttTimeline chart = new GanttTimeline();
+            RunStatistics stats = new RunStatistics();
+            int currentTime = (int) blockStart[b];
+            chart.addTime(currentTime);
+
+            // Everything that arrived by the block's start has been admitted; search, do not scan, for it
+            int low = scan.from(b);
+            int high = n;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (arrival[arrivalOrder != null ? arrivalOrder[mid] : mid] <= currentTime) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            int arrived = low;
+
+            for (int i = scan.from(b), end = scan.to(b); i < end; i++) {
+                int row = arrivalOrder != null ? arrivalOrder[i] : i;
+                if (currentTime < arrival[row]) {
+                    currentTime = arrival[row];
+                }
+                while (arrived < n && arrival[arrivalOrder != null ? arrivalOrder[arrived] : arrived] <= currentTime) {
+                    arrived++;
+                }
+                stats.observeReadyQueue(arrived - i);
+                stats.recordDispatch(pid[row]);
+                table.start(row, currentTime);
+                progress.tick(currentTime);
+
+                chart.addProcess(pid[row]);
+                currentTime += burst[row];
+                chart.addTime(currentTime);
+                table.complete(row, currentTime);
+                progress.complete();
+            }
+            charts[b] = chart;
+            counters[b] = stats;
+        });
+
+        GanttTimeline gantt = result.getGanttTimeline();
+        int slices = 0;
+        int times = 1;
+        for (GanttTimeline chart : charts) {
+            slices += chart.getSliceCount();
+            times += chart.getTimeCount() - 1;
         }
+        gantt.ensureCapacity(slices, times);
+        for (int b = 0; b < charts.length; b++) {
+            GanttTimeline chart = charts[b];
+            if (b == 0) {
+                gantt.append(chart, 0, 0);
+            } else if (chart.getProcessId(0) == gantt.getProcessId(gantt.getSliceCount() - 1)) {
+                // The sequential loop extends the last slice when the same process runs again
+                gantt.addProcess(chart.getProcessId(0));
+                gantt.append(chart, 1, 1);
+            } else {
+                gantt.append(chart, 0, 1);
+            }
+            result.getStatistics().concat(counters[b]);
+        }
+        monitor.progress(n, n, gantt.getEndTime());
+
+        SchedulingMetrics.of(table, scan.blocks()).applyTo(result, gantt.getEndTime());
+    }
 
-        result.setAverageWaitingTime(totalWaitingTime / processes.size());
-        result.setAverageTurnaroundTime(totalTurnaroundTime / processes.size());
-        
-        // CPU Utilization = Total Burst Time / Total Time
-        int totalTime = result.getGanttTime().get(result.getGanttTime().size() - 1);
-        result.setCpuUtilization((double) totalBurstTime / totalTime * 100);
+    @Override
+    public String getAlgorithmName() {
+        return "FCFS (First Come First Served)";
     }
 }
@@ -0,0 +1,132 @@
+package algorithms;
+
+import models.ProcessTable;
+import models.SchedulingResult;
+import java.util.*;
+
+/**
+ * Re-runs one scheduler on a workload that is edited a row at a time
+ * Each run records checkpoints; after an edit the next run resumes from the
+ * last checkpoint before the earliest changed arrival and stops as soon as
+ * it rejoins the previous run, so editing one process among many costs
+ * roughly the work between the edit and the point where its effect dies out.
+ * Schedulers whose engine cannot checkpoint are simply run in full.
+ *
+ * update() may be called from any thread; simulate() runs one at a time.
+ */
+public class IncrementalSimulation {
+    private final Scheduler scheduler;
+    private final ProcessTable workload;
+    private final int[] arrivalOrder;
+    private final List<int[]> pendingEdits = new ArrayList<>();
+
+    // Previous completed run, and the changes made since
+    private SchedulingResult result;
+    private List<Checkpoint> checkpoints = Collections.emptyList();
+    private int changedFrom = Integer.MAX_VALUE;
+    private final Set<Integer> editedRows = new LinkedHashSet<>();
+
+    /**
+     * @param scheduler Scheduler to run; an InstrumentedScheduler is unwrapped
+     * @param processes Initial workload, copied
+     */
+    public IncrementalSimulation(Scheduler scheduler, ProcessTable processes) {
+        while (scheduler instanceof InstrumentedScheduler) {
+            scheduler = ((InstrumentedScheduler) scheduler).getDelegate();
+        }
+        this.scheduler = scheduler;
+        this.workload = processes.copy();
+        for (int row = 0; row < workload.size(); row++) {
+            workload.resetResults(row);
+        }
+        this.arrivalOrder = ArrivalOrder.sortedIndices(workload);
+    }
+
+    /**
+     * Whether runs after an edit resume from a checkpoint rather than starting over
+     */
+    public boolean isIncremental() {
+        return scheduler instanceof Resumable && ((Resumable) scheduler).supportsCheckpoints();
+    }
+
+    /**
+     * Queue an edit of one row, applied by the next simulate()
+     */
+    public void update(int row, int processId, int arrivalTime, int burstTime, int priority) {
+        if (row < 0 || row >= workload.size()) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + workload.size());
+        }
+        synchronized (pendingEdits) {
+            pendingEdits.add(new int[] {row, processId, arrivalTime, burstTime, priority});
+        }
+    }
+
+    /**
+     * Schedule the workload with all edits so far
+     * A cancelled run leaves the previous result in place, and the edits
+     * are still applied by the next call. Each run is measured as by
+     * InstrumentedScheduler; with no edits since the last run its result is
+     * returned again, timings included.
+     * @return Result for the current workload; its table must not be modified
+     */
+    public synchronized SchedulingResult simulate(ProgressMonitor monitor) {
+        applyPendingEdits();
+        if (result != null && editedRows.isEmpty()) {
+            return result;
+        }
+
+        SchedulingResult next;
+        List<Checkpoint> recorded = Collections.emptyList();
+        if (!isIncremental()) {
+            next = InstrumentedScheduler.measure(() -> scheduler.schedule(workload, monitor));
+        } else {
+            Checkpoints run;
+            if (result == null) {
+                run = new Checkpoints(workload.copy(), arrivalOrder);
+            } else {
+                int[] rows = new int[editedRows.size()];
+                int i = 0;
+                for (int row : editedRows) {
+                    rows[i++] = row;
+                }
+                run = new Checkpoints(workload.copy(), arrivalOrder, result, checkpoints, changedFrom, rows);
+            }
+            Checkpoints resumed = run;
+            next = InstrumentedScheduler.measure(() -> ((Resumable) scheduler).resume(resumed, monitor));
+            recorded = run.getRecorded();
+        }
+
+        result = next;
+        checkpoints = recorded;
+        changedFrom = Integer.MAX_VALUE;
+        editedRows.clear();
+        return result;
+    }
+
+    private void applyPendingEdits() {
+        List<int[]> edits;
+        synchronized (pendingEdits) {
+            edits = new ArrayList<>(pendingEdits);
+            pendingEdits.clear();
+        }
+        int[] pid = workload.getProcessIds();
+        int[] arrival = workload.getArrivalTimes();
+        int[] burst = workload.getBurstTimes();
+        int[] priority = workload.getPriorities();
+        for (int[] edit : edits) {
+            int row = edit[0];
+            if (pid[row] == edit[1] && arrival[row] == edit[2] && burst[row] == edit[3] && priority[row] == edit[4]) {
+                continue;
+            }
+            int oldArrival = arrival[row];
+            // A new id relabels Gantt slices that may already be in the past
+            int from = pid[row] != edit[1] ? Integer.MIN_VALUE : Math.min(oldArrival, edit[2]);
+            workload.set(row, edit[1], edit[2], edit[3], edit[4]);
+            if (oldArrival != edit[2]) {
+                ArrivalOrder.move(arrivalOrder, arrival, row, oldArrival);
+            }
+            changedFrom = Math.min(changedFrom, from);
+            editedRows.add(row);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * FIFO ring buffer of process indices used as a ready queue
+ * Backed by a power-of-two int array, so enqueue and dequeue never allocate
+ * once the buffer has grown to the peak queue length
+ */
+final class IndexQueue {
+    private int[] elements;
+    private int head;
+    private int size;
+
+    IndexQueue(int capacity) {
+        int length = Integer.highestOneBit(Math.min(Math.max(capacity, 2), 1 << 30) - 1) << 1;
+        this.elements = new int[length];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void add(int index) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) & (elements.length - 1)] = index;
+        size++;
+    }
+
+    int peek() {
+        return elements[head];
+    }
+
+    int poll() {
+        int index = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return index;
+    }
+
+    /**
+     * Contents from head to tail, for checkpoints
+     */
+    int[] toArray() {
+        int[] contents = new int[size];
+        for (int i = 0; i < size; i++) {
+            contents[i] = elements[(head + i) & (elements.length - 1)];
+        }
+        return contents;
+    }
+
+    /**
+     * Replace the contents with an array previously returned by toArray()
+     */
+    void restore(int[] contents) {
+        while (elements.length < contents.length) {
+            elements = new int[elements.length * 2];
+        }
+        System.arraycopy(contents, 0, elements, 0, contents.length);
+        head = 0;
+        size = contents.length;
+    }
+
+    private void grow() {
+        int[] larger = new int[elements.length * 2];
+        int firstPart = elements.length - head;
+        System.arraycopy(elements, head, larger, 0, firstPart);
+        System.arraycopy(elements, 0, larger, firstPart, head);
+        elements = larger;
+        head = 0;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,89 @@
+package algorithms;
+
+import models.Process;
+import models.ProcessTable;
+import models.RunStatistics;
+import models.SchedulingResult;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Decorator that measures any Scheduler
+ * Records wall time, thread CPU time and bytes allocated by the scheduling
+ * thread into the result's RunStatistics, and sets the result's execution
+ * time. CPU time and allocation are -1 when the JVM does not support them,
+ * and when the run marked itself parallel: the work its fork-join tasks did
+ * on other threads is not seen by the calling thread's counters.
+ */
+public class InstrumentedScheduler implements Scheduler {
+    private final Scheduler delegate;
+
+    public InstrumentedScheduler(Scheduler delegate) {
+        this.delegate = delegate;
+    }
+
+    public Scheduler getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public SchedulingResult schedule(List<Process> processes) {
+        return measure(() -> delegate.schedule(processes));
+    }
+
+    @Override
+    public SchedulingResult schedule(ProcessTable processes) {
+        return measure(() -> delegate.schedule(processes));
+    }
+
+    @Override
+    public SchedulingResult schedule(List<Process> processes, ProgressMonitor monitor) {
+        return measure(() -> delegate.schedule(processes, monitor));
+    }
+
+    @Override
+    public SchedulingResult schedule(ProcessTable processes, ProgressMonitor monitor) {
+        return measure(() -> delegate.schedule(processes, monitor));
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return delegate.getAlgorithmName();
+    }
+
+    /**
+     * Measure one scheduling run on the calling thread
+     */
+    public static SchedulingResult measure(Supplier<SchedulingResult> run) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        boolean cpuSupported = threads.isCurrentThreadCpuTimeSupported() && threads.isThreadCpuTimeEnabled();
+        com.sun.management.ThreadMXBean allocation = null;
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean extended = (com.sun.management.ThreadMXBean) threads;
+            if (extended.isThreadAllocatedMemorySupported() && extended.isThreadAllocatedMemoryEnabled()) {
+                allocation = extended;
+            }
+        }
+        long threadId = Thread.currentThread().getId();
+
+        long cpuStart = cpuSupported ? threads.getCurrentThreadCpuTime() : 0;
+        long allocatedStart = allocation != null ? allocation.getThreadAllocatedBytes(threadId) : 0;
+        long wallStart = System.nanoTime();
+
+        SchedulingResult result = run.get();
+
+        long wallTime = System.nanoTime() - wallStart;
+        RunStatistics stats = result.getStatistics();
+        stats.setWallTimeNanos(wallTime);
+        if (cpuSupported && !stats.isParallel()) {
+            stats.setCpuTimeNanos(threads.getCurrentThreadCpuTime() - cpuStart);
+        }
+        if (allocation != null && !stats.isParallel()) {
+            stats.setAllocatedBytes(allocation.getThreadAllocatedBytes(threadId) - allocatedStart);
+        }
+        result.setExecutionTime(wallTime);
+        return result;
+    }
+}
@@ -0,0 +1,155 @@
+package algorithms;
+
+import models.Process;
+import models.ProcessTable;
+import models.RunStatistics;
+import models.SchedulingMetrics;
+import models.SchedulingResult;
+import java.util.*;
+
+/**
+ * Lottery Scheduling Algorithm
+ * Each ready process holds tickets, and every time quantum goes to the
+ * holder of a ticket drawn at random, so over time each process gets CPU in
+ * proportion to its tickets. Ticket counts are the CFS load weights of the
+ * priority read as a nice level (see ticketsOf). The draw walks a Fenwick
+ * tree over the ticket counts in O(log n), and the random numbers come from a
+ * SplittableRandom seeded per run, so the same seed gives the same schedule.
+ */
+public class LotteryScheduler implements Scheduler {
+    public static final long DEFAULT_SEED = 1;
+
+    private final int timeQuantum;
+    private final long seed;
+
+    public LotteryScheduler() {
+        this(4, DEFAULT_SEED);
+    }
+
+    public LotteryScheduler(int timeQuantum, long seed) {
+        if (timeQuantum <= 0) {
+            throw new IllegalArgumentException("Time quantum must be positive: " + timeQuantum);
+        }
+        this.timeQuantum = timeQuantum;
+        this.seed = seed;
+    }
+
+    public int getTimeQuantum() {
+        return timeQuantum;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Tickets held by a process of the given priority: its CFS load weight, from 15 to 88761
+     */
+    public static int ticketsOf(int priority) {
+        return CompletelyFairScheduler.weightOf(priority);
+    }
+
+    @Override
+    public SchedulingResult schedule(List<Process> processes) {
+        return schedule(processes, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public SchedulingResult schedule(List<Process> processes, ProgressMonitor monitor) {
+        SchedulingResult result = new SchedulingResult(getAlgorithmName());
+
+        // Create copies to avoid modifying original list
+        List<Process> processCopies = new ArrayList<>();
+        for (Process p : processes) {
+            processCopies.add(p.copy());
+        }
+
+        ProcessTable table = ProcessTable.fromProcesses(processCopies);
+        run(table, result, monitor);
+        table.copyResultsTo(processCopies);
+
+        // Report processes in arrival order
+        processCopies.sort((a, b) -> Integer.compare(a.getArrivalTime(), b.getArrivalTime()));
+        result.setProcesses(processCopies);
+
+        return result;
+    }
+
+    @Override
+    public SchedulingResult schedule(ProcessTable processes) {
+        return schedule(processes, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public SchedulingResult schedule(ProcessTable processes, ProgressMonitor monitor) {
+        SchedulingResult result = new SchedulingResult(getAlgorithmName());
+        ProcessTable table = processes.copy();
+        run(table, result, monitor);
+        result.setProcessTable(table);
+        return result;
+    }
+
+    private void run(ProcessTable table, SchedulingResult result, ProgressMonitor monitor) {
+        int n = table.size();
+        int[] arrival = table.getArrivalTimes();
+        int[] remaining = table.getRemainingTimes();
+        int[] priority = table.getPriorities();
+        int[] pid = table.getProcessIds();
+        int[] arrivalOrder = ArrivalOrder.sortedIndices(table);
+
+        TicketTree ready = new TicketTree(n);
+        SplittableRandom random = new SplittableRandom(seed);
+        int readyCount = 0;
+
+        ProgressTracker progress = new ProgressTracker(monitor, n);
+        RunStatistics stats = result.getStatistics();
+        result.addToGanttTime(0);
+
+        int currentTime = n > 0 ? arrival[arrivalOrder[0]] : 0;
+        int index = 0;
+
+        while (index < n || readyCount > 0) {
+            // Add newly arrived processes to the draw
+            while (index < n && arrival[arrivalOrder[index]] <= currentTime) {
+                int row = arrivalOrder[index++];
+                ready.set(row, ticketsOf(priority[row]));
+                readyCount++;
+            }
+
+            if (readyCount == 0) {
+                // No process ready, jump to next arrival
+                currentTime = arrival[arrivalOrder[index]];
+                continue;
+            }
+
+            // The winner keeps its tickets in the draw until it completes
+            stats.observeReadyQueue(readyCount);
+            int current = ready.find(random.nextLong(ready.total()));
+            stats.recordDispatch(pid[current]);
+            table.start(current, currentTime);
+            progress.tick(currentTime);
+
+            int timeToExecute = Math.min(remaining[current], timeQuantum);
+            result.addToGanttChart(pid[current]);
+            currentTime += timeToExecute;
+            remaining[current] -= timeToExecute;
+
+            if (remaining[current] == 0) {
+                ready.set(current, 0);
+                readyCount--;
+                table.complete(current, currentTime);
+                progress.complete();
+            }
+
+            result.addToGanttTime(currentTime);
+        }
+        progress.finish(currentTime);
+
+        SchedulingMetrics.of(table).applyTo(result, result.getGanttTimeline().getEndTime());
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Lottery (TQ=" + timeQuantum + ", seed=" + seed + ")";
+    }
+}
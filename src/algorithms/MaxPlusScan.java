@@ -0,0 +1,76 @@
+package algorithms;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Parallel prefix scan of FCFS completion times over blocks of the arrival order
+ * FCFS completion times are the running composition of
+ * c -> max(c, arrival) + burst, and these max-plus maps compose into maps of
+ * the same shape, c -> max(c + B, A). The scan composes each block's map in
+ * parallel, then chains the few block maps to get the time the CPU frees up
+ * before each block, after which callers can walk every block in parallel.
+ */
+final class MaxPlusScan {
+    private static final int MIN_BLOCK = 1 << 14;
+    private static final long NEVER = Long.MIN_VALUE / 4;
+
+    private final int size;
+    private final int blockSize;
+    private final int blocks;
+
+    /**
+     * Split size positions into at most four blocks per worker of the common pool
+     */
+    MaxPlusScan(int size) {
+        int blocks = Math.max(1, Math.min((size - 1) / MIN_BLOCK + 1, 4 * ForkJoinPool.getCommonPoolParallelism()));
+        this.size = size;
+        this.blockSize = Math.max(1, (size - 1) / blocks + 1);
+        this.blocks = size == 0 ? 0 : (size - 1) / blockSize + 1;
+    }
+
+    int blocks() {
+        return blocks;
+    }
+
+    /**
+     * First position of a block
+     */
+    int from(int block) {
+        return block * blockSize;
+    }
+
+    /**
+     * Position after the last of a block
+     */
+    int to(int block) {
+        return (int) Math.min(size, (long) from(block) + blockSize);
+    }
+
+    /**
+     * Time the CPU frees up before each block when the run starts at time 0
+     * @param arrivalOrder Rows sorted by arrival time, or null when rows are already in that order
+     */
+    long[] startTimes(int[] arrival, int[] burst, int[] arrivalOrder) {
+        // Each block's completion map c -> max(c + total[b], latest[b])
+        long[] latest = new long[blocks];
+        long[] total = new long[blocks];
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            long a = NEVER;
+            long sum = 0;
+            for (int i = from(b), end = to(b); i < end; i++) {
+                int row = arrivalOrder != null ? arrivalOrder[i] : i;
+                a = Math.max(a, arrival[row]) + burst[row];
+                sum += burst[row];
+            }
+            latest[b] = a;
+            total[b] = sum;
+        });
+
+        long[] start = new long[blocks];
+        for (int b = 0; b + 1 < blocks; b++) {
+            start[b + 1] = Math.max(start[b] + total[b], latest[b]);
+        }
+        return start;
+    }
+}
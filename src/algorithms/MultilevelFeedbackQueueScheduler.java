@@ -0,0 +1,192 @@
+package algorithms;
+
+import models.Process;
+import models.ProcessTable;
+import models.RunStatistics;
+import models.SchedulingMetrics;
+import models.SchedulingResult;
+import java.util.*;
+
+/**
+ * Multilevel Feedback Queue (MLFQ) Scheduling Algorithm
+ * Up to 140 levels, each a FIFO queue with its own time quantum; level 0 is
+ * the highest. A process enters at the level of its priority (capped at the
+ * lowest level) and drops one level each time it uses a whole quantum, so
+ * long jobs sink while short ones finish near the top. Every boost interval
+ * all waiting processes are moved back to level 0, so nothing starves. As in
+ * the Multilevel Queue scheduler, arrivals wait for the running quantum to end.
+ * The ready levels are a PriorityArray, so choosing the next process and
+ * boosting take constant time however many processes are waiting.
+ */
+public class MultilevelFeedbackQueueScheduler implements Scheduler {
+    public static final int MAX_LEVELS = PriorityArray.MAX_LEVELS;
+
+    private final int[] timeQuantums;
+    private final int boostInterval;
+
+    public MultilevelFeedbackQueueScheduler() {
+        this(8, 2, 100);
+    }
+
+    /**
+     * @param levels Number of levels, 1 to MAX_LEVELS
+     * @param baseQuantum Quantum of level 0; level i gets (i + 1) times as much
+     * @param boostInterval Time between priority boosts, or 0 for none
+     */
+    public MultilevelFeedbackQueueScheduler(int levels, int baseQuantum, int boostInterval) {
+        this(linearQuanta(levels, baseQuantum), boostInterval);
+    }
+
+    /**
+     * @param timeQuantums Time quantum for each level, 1 to MAX_LEVELS of them
+     * @param boostInterval Time between priority boosts, or 0 for none
+     */
+    public MultilevelFeedbackQueueScheduler(int[] timeQuantums, int boostInterval) {
+        if (timeQuantums.length < 1 || timeQuantums.length > MAX_LEVELS) {
+            throw new IllegalArgumentException("Level count must be between 1 and " + MAX_LEVELS + ": " + timeQuantums.length);
+        }
+        for (int quantum : timeQuantums) {
+            if (quantum <= 0) {
+                throw new IllegalArgumentException("Time quantum must be positive: " + quantum);
+            }
+        }
+        if (boostInterval < 0) {
+            throw new IllegalArgumentException("Boost interval must not be negative: " + boostInterval);
+        }
+        this.timeQuantums = timeQuantums.clone();
+        this.boostInterval = boostInterval;
+    }
+
+    private static int[] linearQuanta(int levels, int baseQuantum) {
+        if (levels < 1 || levels > MAX_LEVELS) {
+            throw new IllegalArgumentException("Level count must be between 1 and " + MAX_LEVELS + ": " + levels);
+        }
+        int[] quanta = new int[levels];
+        for (int level = 0; level < levels; level++) {
+            quanta[level] = baseQuantum * (level + 1);
+        }
+        return quanta;
+    }
+
+    public int[] getTimeQuantums() {
+        return timeQuantums.clone();
+    }
+
+    public int getBoostInterval() {
+        return boostInterval;
+    }
+
+    @Override
+    public SchedulingResult schedule(List<Process> processes) {
+        return schedule(processes, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public SchedulingResult schedule(List<Process> processes, ProgressMonitor monitor) {
+        SchedulingResult result = new SchedulingResult(getAlgorithmName());
+
+        // Create copies to avoid modifying original list
+        List<Process> processCopies = new ArrayList<>();
+        for (Process p : processes) {
+            processCopies.add(p.copy());
+        }
+
+        ProcessTable table = ProcessTable.fromProcesses(processCopies);
+        run(table, result, monitor);
+        table.copyResultsTo(processCopies);
+
+        // Report processes in arrival order
+        processCopies.sort((a, b) -> Integer.compare(a.getArrivalTime(), b.getArrivalTime()));
+        result.setProcesses(processCopies);
+
+        return result;
+    }
+
+    @Override
+    public SchedulingResult schedule(ProcessTable processes) {
+        return schedule(processes, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public SchedulingResult schedule(ProcessTable processes, ProgressMonitor monitor) {
+        SchedulingResult result = new SchedulingResult(getAlgorithmName());
+        ProcessTable table = processes.copy();
+        run(table, result, monitor);
+        result.setProcessTable(table);
+        return result;
+    }
+
+    private void run(ProcessTable table, SchedulingResult result, ProgressMonitor monitor) {
+        int n = table.size();
+        int[] arrival = table.getArrivalTimes();
+        int[] remaining = table.getRemainingTimes();
+        int[] priority = table.getPriorities();
+        int[] pid = table.getProcessIds();
+        int[] arrivalOrder = ArrivalOrder.sortedIndices(table);
+        int lowestLevel = timeQuantums.length - 1;
+
+        PriorityArray ready = new PriorityArray(timeQuantums.length, n);
+        ProgressTracker progress = new ProgressTracker(monitor, n);
+        RunStatistics stats = result.getStatistics();
+        result.addToGanttTime(0);
+
+        int currentTime = n > 0 ? arrival[arrivalOrder[0]] : 0;
+        long nextBoost = boostInterval > 0 ? boostInterval : Long.MAX_VALUE;
+        int index = 0;
+
+        while (index < n || !ready.isEmpty()) {
+            // Add newly arrived processes at the level of their priority
+            while (index < n && arrival[arrivalOrder[index]] <= currentTime) {
+                int row = arrivalOrder[index++];
+                ready.add(row, Math.min(Math.max(priority[row], 0), lowestLevel));
+            }
+
+            if (ready.isEmpty()) {
+                // No process ready, jump to next arrival
+                currentTime = arrival[arrivalOrder[index]];
+                continue;
+            }
+
+            if (currentTime >= nextBoost) {
+                ready.moveAllToTop();
+                nextBoost = (currentTime / boostInterval + 1) * (long) boostInterval;
+            }
+
+            int level = ready.highestLevel();
+            stats.observeReadyQueue(ready.size());
+            int current = ready.poll(level);
+            stats.recordDispatch(pid[current]);
+            table.start(current, currentTime);
+            progress.tick(currentTime);
+
+            int timeToExecute = Math.min(remaining[current], timeQuantums[level]);
+            result.addToGanttChart(pid[current]);
+            currentTime += timeToExecute;
+            remaining[current] -= timeToExecute;
+
+            // Add newly arrived processes before the preempted one rejoins
+            while (index < n && arrival[arrivalOrder[index]] <= currentTime) {
+                int row = arrivalOrder[index++];
+                ready.add(row, Math.min(Math.max(priority[row], 0), lowestLevel));
+            }
+
+            if (remaining[current] > 0) {
+                // Used its whole quantum: demote one level
+                ready.add(current, Math.min(level + 1, lowestLevel));
+            } else {
+                table.complete(current, currentTime);
+                progress.complete();
+            }
+
+            result.addToGanttTime(currentTime);
+        }
+        progress.finish(currentTime);
+
+        SchedulingMetrics.of(table).applyTo(result, result.getGanttTimeline().getEndTime());
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Multilevel Feedback Queue (" + timeQuantums.length + " levels, boost=" + boostInterval + ")";
+    }
+}
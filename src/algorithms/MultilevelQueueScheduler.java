@@ -1,7 +1,12 @@
 package algorithms;
 
 import models.Process;
+import models.ProcessTable;
+import models.RunStatistics;
+import models.SchedulingMetrics;
 import models.SchedulingResult;
+import trace.TraceReader;
+import java.io.IOException;
 import java.util.*;
 
 /**
@@ -10,21 +15,43 @@ import java.util.*;
  * Queue 0: System processes (Priority 0-1)
  * Queue 1: Interactive processes (Priority 2-4)
  * Queue 2: Batch processes (Priority 5+)
+ * The default scalable mode tracks completions with a counter and queue
+ * occupancy with a bitmask; the original per-quantum completion scan is
+ * kept for regression comparison
  */
-public class MultilevelQueueScheduler implements Scheduler {
+public class MultilevelQueueScheduler implements StreamingScheduler, Resumable, PresortedScheduler {
     private static final int NUM_QUEUES = 3;
     private int[] timeQuantums; // Time quantum for each queue
+    private boolean scalable;
 
     public MultilevelQueueScheduler() {
-        this.timeQuantums = new int[]{2, 4, 8}; // Increasing time quantum for lower priority queues
+        this(new int[]{2, 4, 8}); // Increasing time quantum for lower priority queues
     }
 
     public MultilevelQueueScheduler(int[] timeQuantums) {
+        this(timeQuantums, true);
+    }
+
+    /**
+     * @param timeQuantums Time quantum for each queue
+     * @param scalable Use the O(1) completion counter and queue bitmask; false selects the completion scan
+     */
+    public MultilevelQueueScheduler(int[] timeQuantums, boolean scalable) {
         this.timeQuantums = timeQuantums;
+        this.scalable = scalable;
+    }
+
+    public int[] getTimeQuantums() {
+        return timeQuantums.clone();
     }
 
     @Override
     public SchedulingResult schedule(List<Process> processes) {
+        return schedule(processes, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public SchedulingResult schedule(List<Process> processes, ProgressMonitor monitor) {
         SchedulingResult result = new SchedulingResult("Multilevel Queue Scheduling");
 
         // Create copies to avoid modifying original list
@@ -36,11 +63,83 @@ public class MultilevelQueueScheduler implements Scheduler {
         // Sort by arrival time
         processCopies.sort((a, b) -> Integer.compare(a.getArrivalTime(), b.getArrivalTime()));
 
-        // Create queues based on priority
-        @SuppressWarnings("unchecked")
-        Queue<Process>[] queues = new Queue[NUM_QUEUES];
+        // Assign processes to queues based on priority
+        assignQueuesToProcesses(processCopies);
+
+        ProcessTable table = ProcessTable.fromProcesses(processCopies);
+        if (scalable) {
+            scheduleScalable(table, result, monitor, ArrivalOrder.sortedIndices(table), null);
+            table.copyResultsTo(processCopies);
+        } else {
+            scheduleWithCompletionScan(processCopies, result, monitor);
+            table = ProcessTable.fromProcesses(processCopies);
+        }
+
+        SchedulingMetrics.of(table).applyTo(result, result.getGanttTimeline().getEndTime());
+        result.setProcesses(processCopies);
+
+        return result;
+    }
+
+    @Override
+    public SchedulingResult schedule(ProcessTable processes) {
+        return schedule(processes, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public SchedulingResult schedule(ProcessTable processes, ProgressMonitor monitor) {
+        if (!scalable) {
+            // The completion-scan loop only works on process objects
+            SchedulingResult result = schedule(processes.toProcesses(), monitor);
+            result.setProcessTable(ProcessTable.fromProcesses(result.getProcesses()));
+            return result;
+        }
+        SchedulingResult result = new SchedulingResult("Multilevel Queue Scheduling");
+        ProcessTable table = processes.copy();
+        scheduleScalable(table, result, monitor, ArrivalOrder.sortedIndices(table), null);
+        SchedulingMetrics.of(table).applyTo(result, result.getGanttTimeline().getEndTime());
+        result.setProcessTable(table);
+        return result;
+    }
+
+    @Override
+    public SchedulingResult schedulePresorted(ProcessTable table, int[] arrivalOrder, ProgressMonitor monitor) {
+        if (!scalable) {
+            return schedule(table, monitor);
+        }
+        SchedulingResult result = new SchedulingResult("Multilevel Queue Scheduling");
+        scheduleScalable(table, result, monitor, arrivalOrder, null);
+        SchedulingMetrics.of(table).applyTo(result, result.getGanttTimeline().getEndTime());
+        result.setProcessTable(table);
+        return result;
+    }
+
+    @Override
+    public boolean supportsCheckpoints() {
+        return scalable;
+    }
+
+    @Override
+    public SchedulingResult resume(Checkpoints checkpoints, ProgressMonitor monitor) {
+        SchedulingResult result = new SchedulingResult("Multilevel Queue Scheduling");
+        scheduleScalable(checkpoints.getTable(), result, monitor, checkpoints.getArrivalOrder(), checkpoints);
+        SchedulingMetrics.of(checkpoints.getTable()).applyTo(result, result.getGanttTimeline().getEndTime());
+        result.setProcessTable(checkpoints.getTable());
+        return result;
+    }
+
+    /**
+     * Original loop: rescans every process after each quantum to detect completion
+     */
+    private void scheduleWithCompletionScan(List<Process> processCopies, SchedulingResult result,
+                                            ProgressMonitor monitor) {
+        RunStatistics stats = result.getStatistics();
+        ProgressTracker progress = new ProgressTracker(monitor, processCopies.size());
+
+        // Create queues based on priority; each holds indices into processCopies
+        IndexQueue[] queues = new IndexQueue[NUM_QUEUES];
         for (int i = 0; i < NUM_QUEUES; i++) {
-            queues[i] = new LinkedList<>();
+            queues[i] = new IndexQueue(processCopies.size());
         }
 
         int currentTime = 0;
@@ -51,30 +150,24 @@ public class MultilevelQueueScheduler implements Scheduler {
             currentTime = processCopies.get(0).getArrivalTime();
         }
 
-        // Assign processes to queues based on priority
-        assignQueuesToProcesses(processCopies);
-
         boolean allProcessesComplete = false;
         while (!allProcessesComplete) {
             // Add newly arrived processes to their respective queues
             while (index < processCopies.size() && processCopies.get(index).getArrivalTime() <= currentTime) {
-                int queueIndex = getQueueIndex(processCopies.get(index).getPriority());
-                queues[queueIndex].add(processCopies.get(index));
+                queues[processCopies.get(index).getQueue()].add(index);
                 index++;
             }
 
             // Find the first non-empty queue (highest priority)
-            Process nextProcess = null;
             int selectedQueue = -1;
             for (int i = 0; i < NUM_QUEUES; i++) {
                 if (!queues[i].isEmpty()) {
-                    nextProcess = queues[i].peek();
                     selectedQueue = i;
                     break;
                 }
             }
 
-            if (nextProcess == null) {
+            if (selectedQueue == -1) {
                 // No process ready, jump to next arrival
                 allProcessesComplete = true;
                 for (int i = 0; i < processCopies.size(); i++) {
@@ -86,15 +179,21 @@ public class MultilevelQueueScheduler implements Scheduler {
 
                 if (!allProcessesComplete && index < processCopies.size()) {
                     currentTime = processCopies.get(index).getArrivalTime();
-                    int queueIndex = getQueueIndex(processCopies.get(index).getPriority());
-                    queues[queueIndex].add(processCopies.get(index));
+                    queues[processCopies.get(index).getQueue()].add(index);
                     index++;
                 }
                 continue;
             }
 
             // Execute process
-            nextProcess = queues[selectedQueue].poll();
+            stats.observeReadyQueue(queues[0].size() + queues[1].size() + queues[2].size());
+            int current = queues[selectedQueue].poll();
+            Process nextProcess = processCopies.get(current);
+            stats.recordDispatch(nextProcess.getProcessId());
+            progress.tick(currentTime);
+            if (nextProcess.getStartTime() < 0) {
+                nextProcess.setStartTime(currentTime);
+            }
             int timeToExecute = Math.min(nextProcess.getRemainingTime(), timeQuantums[selectedQueue]);
 
             result.addToGanttChart(nextProcess.getProcessId());
@@ -103,19 +202,19 @@ public class MultilevelQueueScheduler implements Scheduler {
 
             // Add newly arrived processes
             while (index < processCopies.size() && processCopies.get(index).getArrivalTime() <= currentTime) {
-                int queueIndex = getQueueIndex(processCopies.get(index).getPriority());
-                queues[queueIndex].add(processCopies.get(index));
+                queues[processCopies.get(index).getQueue()].add(index);
                 index++;
             }
 
             if (nextProcess.getRemainingTime() > 0) {
                 // Process not complete, add back to queue
-                queues[selectedQueue].add(nextProcess);
+                queues[selectedQueue].add(current);
             } else {
                 // Process complete
                 nextProcess.setCompletionTime(currentTime);
                 nextProcess.setTurnaroundTime(nextProcess.getCompletionTime() - nextProcess.getArrivalTime());
                 nextProcess.setWaitingTime(nextProcess.getTurnaroundTime() - nextProcess.getBurstTime());
+                progress.complete();
             }
 
             result.addToGanttTime(currentTime);
@@ -129,20 +228,206 @@ public class MultilevelQueueScheduler implements Scheduler {
                 }
             }
         }
+        progress.finish(currentTime);
+    }
 
-        calculateMetrics(processCopies, result);
-        result.setProcesses(processCopies);
+    /**
+     * Scalable loop: completions are counted as they happen and bit i of
+     * {@code occupied} is set while queue i is non-empty, so both the
+     * termination check and the highest-queue lookup are O(1)
+     */
+    private void scheduleScalable(ProcessTable table, SchedulingResult result, ProgressMonitor monitor,
+                                  int[] arrivalOrder, Checkpoints checkpoints) {
+        int n = table.size();
+        int[] arrival = table.getArrivalTimes();
+        int[] remaining = table.getRemainingTimes();
+        int[] pid = table.getProcessIds();
+        int[] queueOf = new int[n];
+        for (int row = 0; row < n; row++) {
+            queueOf[row] = getQueueIndex(table.getPriorities()[row]);
+        }
+
+        IndexQueue[] queues = new IndexQueue[NUM_QUEUES];
+        for (int i = 0; i < NUM_QUEUES; i++) {
+            queues[i] = new IndexQueue(n);
+        }
+        ProgressTracker progress = checkpoints != null
+                ? checkpoints.begin(result, monitor) : new ProgressTracker(monitor, n);
+        RunStatistics stats = result.getStatistics();
+        Checkpoint start = checkpoints != null ? checkpoints.getStart() : null;
 
+        int currentTime = n > 0 ? arrival[arrivalOrder[0]] : 0;
+        int index = 0;
+        int completed = 0;
+        int occupied = 0;
+        if (start != null) {
+            currentTime = start.time;
+            index = start.cursor;
+            completed = start.registers[0];
+            for (int i = 0; i < NUM_QUEUES; i++) {
+                queues[i].restore(start.queues[i]);
+                if (!queues[i].isEmpty()) {
+                    occupied |= 1 << i;
+                }
+            }
+        } else {
+            result.addToGanttTime(0);
+        }
+
+        while (completed < n) {
+            if (checkpoints != null && checkpoints.due(currentTime, index)
+                    && checkpoints.capture(currentTime, index, new int[] {completed},
+                            queues[0].toArray(), queues[1].toArray(), queues[2].toArray())) {
+                currentTime = checkpoints.getEndTime();
+                break;
+            }
+
+            // Add newly arrived processes to their respective queues
+            while (index < n && arrival[arrivalOrder[index]] <= currentTime) {
+                int row = arrivalOrder[index++];
+                queues[queueOf[row]].add(row);
+                occupied |= 1 << queueOf[row];
+            }
+
+            if (occupied == 0) {
+                // No process ready, jump to next arrival
+                currentTime = arrival[arrivalOrder[index]];
+                continue;
+            }
+
+            // Lowest set bit is the highest priority non-empty queue
+            int selectedQueue = Integer.numberOfTrailingZeros(occupied);
+            stats.observeReadyQueue(queues[0].size() + queues[1].size() + queues[2].size());
+            int current = queues[selectedQueue].poll();
+            stats.recordDispatch(pid[current]);
+            table.start(current, currentTime);
+            progress.tick(currentTime);
+            if (queues[selectedQueue].isEmpty()) {
+                occupied &= ~(1 << selectedQueue);
+            }
+
+            int timeToExecute = Math.min(remaining[current], timeQuantums[selectedQueue]);
+            result.addToGanttChart(pid[current]);
+            currentTime += timeToExecute;
+            remaining[current] -= timeToExecute;
+
+            // Add newly arrived processes
+            while (index < n && arrival[arrivalOrder[index]] <= currentTime) {
+                int row = arrivalOrder[index++];
+                queues[queueOf[row]].add(row);
+                occupied |= 1 << queueOf[row];
+            }
+
+            if (remaining[current] > 0) {
+                // Process not complete, add back to queue
+                queues[selectedQueue].add(current);
+                occupied |= 1 << selectedQueue;
+            } else {
+                // Process complete
+                table.complete(current, currentTime);
+                completed++;
+                progress.complete();
+            }
+
+            result.addToGanttTime(currentTime);
+        }
+        progress.finish(currentTime);
+    }
+
+    /**
+     * Stream a trace with the scalable loop; the queues hold only arrived,
+     * unfinished processes. Used regardless of the scalable flag.
+     */
+    @Override
+    public SchedulingResult schedule(TraceReader trace, ProgressMonitor monitor) throws IOException {
+        SchedulingResult result = new SchedulingResult("Multilevel Queue Scheduling");
+        RunStatistics stats = result.getStatistics();
+        SchedulingMetrics metrics = new SchedulingMetrics();
+        ProgressTracker progress = new ProgressTracker(monitor, -1);
+        ProcessRing[] queues = new ProcessRing[NUM_QUEUES];
+        for (int i = 0; i < NUM_QUEUES; i++) {
+            queues[i] = new ProcessRing(1024);
+        }
+
+        // The trace cursor sits on the next process that has not been admitted yet
+        boolean pending = trace.next();
+        long currentTime = pending ? trace.arrivalTime() : 0;
+        int occupied = 0;
+
+        while (pending || occupied != 0) {
+            // Add newly arrived processes to their respective queues
+            while (pending && trace.arrivalTime() <= currentTime) {
+                occupied |= admit(trace, queues);
+                pending = trace.next();
+            }
+
+            if (occupied == 0) {
+                // No process ready, jump to next arrival
+                currentTime = trace.arrivalTime();
+                continue;
+            }
+
+            // Lowest set bit is the highest priority non-empty queue
+            int selectedQueue = Integer.numberOfTrailingZeros(occupied);
+            ProcessRing queue = queues[selectedQueue];
+            stats.observeReadyQueue(queues[0].size() + queues[1].size() + queues[2].size());
+            int pid = queue.headProcessId();
+            int arrival = queue.headArrivalTime();
+            int burst = queue.headBurstTime();
+            int remaining = queue.headRemainingTime();
+            queue.removeHead();
+            stats.recordDispatch(pid);
+            progress.tick(currentTime);
+            if (remaining == burst) {
+                // A process that has not run yet still has its whole burst left
+                metrics.recordResponse(currentTime - arrival);
+            }
+            if (queue.isEmpty()) {
+                occupied &= ~(1 << selectedQueue);
+            }
+
+            int timeToExecute = Math.min(remaining, timeQuantums[selectedQueue]);
+            currentTime += timeToExecute;
+            remaining -= timeToExecute;
+
+            // Add newly arrived processes
+            while (pending && trace.arrivalTime() <= currentTime) {
+                occupied |= admit(trace, queues);
+                pending = trace.next();
+            }
+
+            if (remaining > 0) {
+                // Process not complete, add back to queue
+                queue.add(pid, arrival, burst, remaining);
+                occupied |= 1 << selectedQueue;
+            } else {
+                metrics.recordCompletion(arrival, burst, currentTime);
+                progress.complete();
+            }
+        }
+
+        progress.finish(currentTime);
+        metrics.applyTo(result, currentTime);
         return result;
     }
 
+    /**
+     * Queue the trace's current process by priority
+     * @return Occupancy bit of the queue it joined
+     */
+    private int admit(TraceReader trace, ProcessRing[] queues) {
+        int queueIndex = getQueueIndex(trace.priority());
+        queues[queueIndex].add(trace.processId(), trace.arrivalTime(), trace.burstTime(), trace.burstTime());
+        return 1 << queueIndex;
+    }
+
     private void assignQueuesToProcesses(List<Process> processes) {
         for (Process p : processes) {
             p.setQueue(getQueueIndex(p.getPriority()));
         }
     }
 
-    private int getQueueIndex(int priority) {
+    static int getQueueIndex(int priority) {
         if (priority >= 0 && priority <= 1) {
             return 0; // System processes - highest priority
         } else if (priority >= 2 && priority <= 4) {
@@ -156,24 +441,4 @@ public class MultilevelQueueScheduler implements Scheduler {
     public String getAlgorithmName() {
         return "Multilevel Queue Scheduling";
     }
-
-    private void calculateMetrics(List<Process> processes, SchedulingResult result) {
-        double totalWaitingTime = 0;
-        double totalTurnaroundTime = 0;
-        int totalBurstTime = 0;
-
-        for (Process p : processes) {
-            totalWaitingTime += p.getWaitingTime();
-            totalTurnaroundTime += p.getTurnaroundTime();
-            totalBurstTime += p.getBurstTime();
-        }
-
-        result.setAverageWaitingTime(totalWaitingTime / processes.size());
-        result.setAverageTurnaroundTime(totalTurnaroundTime / processes.size());
-
-        if (result.getGanttTime().size() > 0) {
-            int totalTime = result.getGanttTime().get(result.getGanttTime().size() - 1);
-            result.setCpuUtilization((double) totalBurstTime / totalTime * 100);
-        }
-    }
 }
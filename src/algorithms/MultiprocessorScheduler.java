@@ -0,0 +1,640 @@
+package algorithms;
+
+import models.GanttTimeline;
+import models.Process;
+import models.ProcessTable;
+import models.RunStatistics;
+import models.SchedulingMetrics;
+import models.SchedulingResult;
+import java.util.*;
+
+/**
+ * Runs any built-in algorithm on several simulated CPUs (SMP)
+ * The algorithm decides the order of each run queue, the time slice and
+ * whether an arrival can preempt a running process; this class places
+ * processes on CPUs. With a global run queue every idle CPU takes the next
+ * process from one shared queue, and preemptive algorithms preempt the CPU
+ * running the least urgent process. With per-CPU run queues arrivals go to
+ * the least loaded CPU, a preempted or expired process stays on its CPU's
+ * queue, and a CPU whose queue runs dry steals the next process from the
+ * longest queue.
+ *
+ * Event-driven: time jumps to the next arrival or slice end, found through
+ * a heap of CPUs ordered by slice end, so a run costs O(log n + log cpus)
+ * per dispatch plus O(cpus) per placement, preemption check or steal.
+ * Each CPU gets its own Gantt lane with explicit idle slices; the main
+ * timeline of the result is the lane of CPU 0.
+ */
+public class MultiprocessorScheduler implements Scheduler {
+    public static final int MAX_CPUS = 64; // idle CPUs are tracked in one long bitmask
+
+    /**
+     * Where ready processes wait
+     */
+    public enum RunQueues {
+        /** One queue shared by all CPUs */
+        GLOBAL,
+        /** One queue per CPU, with work stealing when a CPU runs dry */
+        PER_CPU
+    }
+
+    private enum Key {
+        ARRIVAL, BURST, REMAINING, PRIORITY
+    }
+
+    private final String algorithmName;
+    private final int cpus;
+    private final RunQueues runQueues;
+    private final Key key;
+    private final boolean preemptive;
+    private final int[] timeQuantums; // per queue level; Integer.MAX_VALUE runs to completion
+
+    /**
+     * @param algorithm FCFS, SJF, Priority, Round Robin or Multilevel Queue scheduler whose policy to use
+     * @param cpus Number of CPUs, 1 to MAX_CPUS
+     * @param runQueues Global or per-CPU run queues
+     */
+    public MultiprocessorScheduler(Scheduler algorithm, int cpus, RunQueues runQueues) {
+        if (cpus < 1 || cpus > MAX_CPUS) {
+            throw new IllegalArgumentException("CPU count must be between 1 and " + MAX_CPUS + ": " + cpus);
+        }
+        while (algorithm instanceof InstrumentedScheduler) {
+            algorithm = ((InstrumentedScheduler) algorithm).getDelegate();
+        }
+        this.algorithmName = algorithm.getAlgorithmName();
+        this.cpus = cpus;
+        this.runQueues = runQueues;
+
+        if (algorithm instanceof FCFSScheduler) {
+            key = Key.ARRIVAL;
+            preemptive = false;
+            timeQuantums = new int[] {Integer.MAX_VALUE};
+        } else if (algorithm instanceof SJFScheduler) {
+            preemptive = ((SJFScheduler) algorithm).isPreemptive();
+            key = preemptive ? Key.REMAINING : Key.BURST;
+            timeQuantums = new int[] {Integer.MAX_VALUE};
+        } else if (algorithm instanceof PriorityScheduler) {
+            key = Key.PRIORITY;
+            preemptive = ((PriorityScheduler) algorithm).isPreemptive();
+            timeQuantums = new int[] {Integer.MAX_VALUE};
+        } else if (algorithm instanceof RoundRobinScheduler) {
+            key = Key.ARRIVAL;
+            preemptive = false;
+            timeQuantums = new int[] {((RoundRobinScheduler) algorithm).getTimeQuantum()};
+        } else if (algorithm instanceof MultilevelQueueScheduler) {
+            key = Key.ARRIVAL;
+            preemptive = false;
+            timeQuantums = ((MultilevelQueueScheduler) algorithm).getTimeQuantums();
+        } else {
+            throw new IllegalArgumentException("No multiprocessor policy for " + algorithmName);
+        }
+        for (int quantum : timeQuantums) {
+            if (quantum <= 0) {
+                throw new IllegalArgumentException("Time quantum must be positive: " + quantum);
+            }
+        }
+    }
+
+    public int getCpuCount() {
+        return cpus;
+    }
+
+    public RunQueues getRunQueues() {
+        return runQueues;
+    }
+
+    @Override
+    public SchedulingResult schedule(List<Process> processes) {
+        return schedule(processes, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public SchedulingResult schedule(List<Process> processes, ProgressMonitor monitor) {
+        SchedulingResult result = new SchedulingResult(getAlgorithmName());
+
+        // Create copies to avoid modifying original list
+        List<Process> processCopies = new ArrayList<>();
+        for (Process p : processes) {
+            processCopies.add(p.copy());
+        }
+
+        ProcessTable table = ProcessTable.fromProcesses(processCopies);
+        run(table, result, monitor);
+        table.copyResultsTo(processCopies);
+
+        // Report processes in arrival order
+        processCopies.sort((a, b) -> Integer.compare(a.getArrivalTime(), b.getArrivalTime()));
+        result.setProcesses(processCopies);
+        return result;
+    }
+
+    @Override
+    public SchedulingResult schedule(ProcessTable processes) {
+        return schedule(processes, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public SchedulingResult schedule(ProcessTable processes, ProgressMonitor monitor) {
+        SchedulingResult result = new SchedulingResult(getAlgorithmName());
+        ProcessTable table = processes.copy();
+        run(table, result, monitor);
+        result.setProcessTable(table);
+        return result;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return algorithmName + " on " + cpus + (cpus == 1 ? " CPU" : " CPUs")
+                + (runQueues == RunQueues.GLOBAL ? " (global queue)" : " (per-CPU queues)");
+    }
+
+    private void run(ProcessTable table, SchedulingResult result, ProgressMonitor monitor) {
+        new Run(table, result, new ProgressTracker(monitor, table.size())).execute();
+    }
+
+    /**
+     * State of one simulation
+     */
+    private final class Run {
+        private final ProcessTable table;
+        private final SchedulingResult result;
+        private final ProgressTracker progress;
+        private final RunStatistics stats;
+        private final int n;
+        private final int[] arrival;
+        private final int[] remaining;
+        private final int[] pid;
+        private final int[] level;      // queue level of each row
+        private final int[] lastCpu;    // CPU each row last ran on, or -1
+        private final ReadyHeap.Order order; // null for FIFO queues
+        private final RunQueue[] queues; // one shared, or one per CPU
+
+        // Per-CPU state
+        private final int[] running;    // row, or -1 when idle
+        private final int[] lastPid;    // process the CPU last ran, or IDLE, for context switches
+        private final int[] sliceStart;
+        private final long[] busy;
+        private final GanttTimeline[] lanes;
+        private final int[] laneEnd;
+        private final SliceClock clock;
+        private long idle;              // bit c set while CPU c is idle
+        private int queued;
+
+        Run(ProcessTable table, SchedulingResult result, ProgressTracker progress) {
+            this.table = table;
+            this.result = result;
+            this.progress = progress;
+            this.stats = result.getStatistics();
+            this.n = table.size();
+            this.arrival = table.getArrivalTimes();
+            this.remaining = table.getRemainingTimes();
+            this.pid = table.getProcessIds();
+            this.lastCpu = new int[n];
+            Arrays.fill(lastCpu, -1);
+            this.level = new int[n];
+            if (timeQuantums.length > 1) {
+                int[] priority = table.getPriorities();
+                for (int row = 0; row < n; row++) {
+                    level[row] = Math.min(MultilevelQueueScheduler.getQueueIndex(priority[row]), timeQuantums.length - 1);
+                }
+            }
+            this.order = createOrder(table);
+            this.queues = new RunQueue[runQueues == RunQueues.GLOBAL ? 1 : cpus];
+            for (int q = 0; q < queues.length; q++) {
+                queues[q] = new RunQueue(timeQuantums.length, order);
+            }
+
+            this.running = new int[cpus];
+            Arrays.fill(running, -1);
+            this.lastPid = new int[cpus];
+            Arrays.fill(lastPid, GanttTimeline.IDLE);
+            this.sliceStart = new int[cpus];
+            this.busy = new long[cpus];
+            this.lanes = new GanttTimeline[cpus];
+            this.laneEnd = new int[cpus];
+            for (int cpu = 0; cpu < cpus; cpu++) {
+                lanes[cpu] = new GanttTimeline();
+                lanes[cpu].addTime(0);
+            }
+            this.clock = new SliceClock(cpus);
+            this.idle = cpus == MAX_CPUS ? -1L : (1L << cpus) - 1;
+        }
+
+        void execute() {
+            int[] arrivalOrder = ArrivalOrder.sortedIndices(table);
+            int[] expired = new int[cpus];
+            int next = 0;
+            int completed = 0;
+            int currentTime = 0;
+
+            while (completed < n) {
+                // Next event: the earliest slice end or arrival
+                currentTime = clock.nextTime();
+                if (next < n && arrival[arrivalOrder[next]] < currentTime) {
+                    currentTime = arrival[arrivalOrder[next]];
+                }
+
+                // End the slices that finish now
+                int expiredCount = 0;
+                while (clock.nextTime() == currentTime) {
+                    int cpu = clock.first();
+                    int row = stop(cpu, currentTime);
+                    if (remaining[row] == 0) {
+                        table.complete(row, currentTime);
+                        completed++;
+                        progress.complete();
+                    } else {
+                        expired[expiredCount++] = row;
+                    }
+                }
+
+                // Admit arrivals, then requeue expired slices behind them as Round Robin does
+                boolean admitted = false;
+                while (next < n && arrival[arrivalOrder[next]] <= currentTime) {
+                    enqueue(arrivalOrder[next++], -1);
+                    admitted = true;
+                }
+                for (int i = 0; i < expiredCount; i++) {
+                    enqueue(expired[i], lastCpu[expired[i]]);
+                }
+
+                dispatchIdle(currentTime);
+                if (preemptive && admitted) {
+                    preempt(currentTime);
+                }
+            }
+
+            finish(currentTime);
+        }
+
+        /**
+         * Put a ready row on a queue
+         * @param cpu CPU whose queue to use with per-CPU queues, or -1 for the least loaded
+         */
+        private void enqueue(int row, int cpu) {
+            if (queues.length == 1) {
+                cpu = 0;
+            } else if (cpu < 0) {
+                cpu = leastLoaded();
+            }
+            queues[cpu].add(row, level[row]);
+            queued++;
+        }
+
+        /**
+         * CPU with the fewest waiting plus running processes, lowest index on ties
+         */
+        private int leastLoaded() {
+            int best = 0;
+            int bestLoad = Integer.MAX_VALUE;
+            for (int cpu = 0; cpu < cpus; cpu++) {
+                int load = queues[cpu].size() + (running[cpu] >= 0 ? 1 : 0);
+                if (load < bestLoad) {
+                    best = cpu;
+                    bestLoad = load;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Give every idle CPU work, lowest CPU first
+         * With per-CPU queues, CPUs first take from their own queue; only
+         * then do the ones still idle steal.
+         */
+        private void dispatchIdle(int time) {
+            if (queues.length == 1) {
+                while (idle != 0 && queued > 0) {
+                    take(Long.numberOfTrailingZeros(idle), queues[0], time);
+                }
+                return;
+            }
+            for (long candidates = idle; candidates != 0; candidates &= candidates - 1) {
+                int cpu = Long.numberOfTrailingZeros(candidates);
+                if (!queues[cpu].isEmpty()) {
+                    take(cpu, queues[cpu], time);
+                }
+            }
+            while (idle != 0 && queued > 0) {
+                take(Long.numberOfTrailingZeros(idle), longestQueue(), time);
+            }
+        }
+
+        private void take(int cpu, RunQueue queue, int time) {
+            stats.observeReadyQueue(queued);
+            queued--;
+            start(cpu, queue.poll(), time);
+        }
+
+        /**
+         * Queue to steal from: the one with the most waiting processes, lowest index on ties
+         */
+        private RunQueue longestQueue() {
+            RunQueue longest = queues[0];
+            for (RunQueue queue : queues) {
+                if (queue.size() > longest.size()) {
+                    longest = queue;
+                }
+            }
+            return longest;
+        }
+
+        /**
+         * Let waiting processes that are more urgent than running ones take their CPUs
+         * Only arrivals can create such a process, so this runs after admissions.
+         */
+        private void preempt(int time) {
+            // Bring remaining times up to date for the comparisons
+            for (int cpu = 0; cpu < cpus; cpu++) {
+                if (running[cpu] >= 0) {
+                    int ran = time - sliceStart[cpu];
+                    remaining[running[cpu]] -= ran;
+                    busy[cpu] += ran;
+                    sliceStart[cpu] = time;
+                }
+            }
+
+            if (queues.length == 1) {
+                RunQueue queue = queues[0];
+                while (!queue.isEmpty()) {
+                    int victim = leastUrgentCpu();
+                    if (victim < 0 || !order.before(queue.peek(), running[victim])) {
+                        break;
+                    }
+                    replace(victim, queue, time);
+                }
+            } else {
+                for (int cpu = 0; cpu < cpus; cpu++) {
+                    RunQueue queue = queues[cpu];
+                    if (running[cpu] >= 0 && !queue.isEmpty() && order.before(queue.peek(), running[cpu])) {
+                        replace(cpu, queue, time);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Busy CPU whose process every other running process comes before, or -1
+         */
+        private int leastUrgentCpu() {
+            int victim = -1;
+            for (int cpu = 0; cpu < cpus; cpu++) {
+                if (running[cpu] >= 0 && (victim < 0 || order.before(running[victim], running[cpu]))) {
+                    victim = cpu;
+                }
+            }
+            return victim;
+        }
+
+        /**
+         * Preempt the CPU's process in favour of the head of queue
+         */
+        private void replace(int cpu, RunQueue queue, int time) {
+            stats.observeReadyQueue(queued);
+            int row = queue.poll();
+            int preempted = stop(cpu, time);
+            enqueue(preempted, cpu);
+            queued--;
+            start(cpu, row, time);
+        }
+
+        private void start(int cpu, int row, int time) {
+            if (lastCpu[row] >= 0 && lastCpu[row] != cpu) {
+                stats.recordMigration();
+            }
+            stats.recordDispatch(pid[row], lastPid[cpu] != GanttTimeline.IDLE && lastPid[cpu] != pid[row]);
+            table.start(row, time);
+            progress.tick(time);
+
+            GanttTimeline lane = lanes[cpu];
+            if (time > laneEnd[cpu]) {
+                lane.addProcess(GanttTimeline.IDLE);
+                lane.addTime(time);
+            }
+            lane.addProcess(pid[row]);
+
+            running[cpu] = row;
+            lastPid[cpu] = pid[row];
+            lastCpu[row] = cpu;
+            sliceStart[cpu] = time;
+            idle &= ~(1L << cpu);
+            clock.set(cpu, time + Math.min(remaining[row], timeQuantums[level[row]]));
+        }
+
+        /**
+         * End the CPU's current slice
+         * @return The row that was running
+         */
+        private int stop(int cpu, int time) {
+            int row = running[cpu];
+            int ran = time - sliceStart[cpu];
+            remaining[row] -= ran;
+            busy[cpu] += ran;
+            lanes[cpu].addTime(time);
+            laneEnd[cpu] = time;
+
+            running[cpu] = -1;
+            idle |= 1L << cpu;
+            clock.set(cpu, Integer.MAX_VALUE);
+            return row;
+        }
+
+        /**
+         * Pad the lanes with idle time to the makespan and compute the metrics
+         */
+        private void finish(int makespan) {
+            progress.finish(makespan);
+
+            double[] utilization = new double[cpus];
+            long totalBusy = 0;
+            for (int cpu = 0; cpu < cpus; cpu++) {
+                if (laneEnd[cpu] < makespan) {
+                    lanes[cpu].addProcess(GanttTimeline.IDLE);
+                    lanes[cpu].addTime(makespan);
+                }
+                utilization[cpu] = makespan > 0 ? (double) busy[cpu] / makespan * 100 : 0;
+                totalBusy += busy[cpu];
+            }
+            result.setCpuLanes(lanes, utilization);
+
+            SchedulingMetrics.of(table).applyTo(result, 0);
+            result.setCpuUtilization(makespan > 0 ? (double) totalBusy / ((long) cpus * makespan) * 100 : 0);
+        }
+    }
+
+    /**
+     * Ready-queue order for the algorithm's key, with the single-CPU engines' tie-breaks; null for FIFO
+     */
+    private ReadyHeap.Order createOrder(ProcessTable table) {
+        int[] burst = table.getBurstTimes();
+        int[] remaining = table.getRemainingTimes();
+        int[] priority = table.getPriorities();
+        int[] arrival = table.getArrivalTimes();
+        int[] pid = table.getProcessIds();
+        switch (key) {
+            case BURST:
+                return (a, b) -> burst[a] < burst[b] || (burst[a] == burst[b] && a < b);
+            case REMAINING:
+                return (a, b) -> remaining[a] < remaining[b] || (remaining[a] == remaining[b] && a < b);
+            case PRIORITY:
+                return (a, b) -> {
+                    if (priority[a] != priority[b]) {
+                        return priority[a] < priority[b];
+                    }
+                    if (arrival[a] != arrival[b]) {
+                        return arrival[a] < arrival[b];
+                    }
+                    return pid[a] < pid[b];
+                };
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Ready queue with one level per time quantum
+     * Each level is FIFO, or a heap when the algorithm orders by a key;
+     * bit i of occupied is set while level i is non-empty.
+     */
+    private static final class RunQueue {
+        private final IndexQueue[] fifo;
+        private final ReadyHeap[] heap;
+        private int occupied;
+        private int size;
+
+        RunQueue(int levels, ReadyHeap.Order order) {
+            if (order == null) {
+                fifo = new IndexQueue[levels];
+                heap = null;
+                for (int i = 0; i < levels; i++) {
+                    fifo[i] = new IndexQueue(16);
+                }
+            } else {
+                fifo = null;
+                heap = new ReadyHeap[levels];
+                for (int i = 0; i < levels; i++) {
+                    heap[i] = new ReadyHeap(16, order);
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void add(int row, int level) {
+            if (fifo != null) {
+                fifo[level].add(row);
+            } else {
+                heap[level].push(row);
+            }
+            occupied |= 1 << level;
+            size++;
+        }
+
+        int peek() {
+            int level = Integer.numberOfTrailingZeros(occupied);
+            return fifo != null ? fifo[level].peek() : heap[level].peek();
+        }
+
+        int poll() {
+            int level = Integer.numberOfTrailingZeros(occupied);
+            int row;
+            boolean empty;
+            if (fifo != null) {
+                row = fifo[level].poll();
+                empty = fifo[level].isEmpty();
+            } else {
+                row = heap[level].poll();
+                empty = heap[level].isEmpty();
+            }
+            if (empty) {
+                occupied &= ~(1 << level);
+            }
+            size--;
+            return row;
+        }
+    }
+
+    /**
+     * Indexed min-heap of CPUs by slice end time, ties by CPU number
+     * Idle CPUs are kept at Integer.MAX_VALUE.
+     */
+    private static final class SliceClock {
+        private final int[] heap;     // CPU numbers
+        private final int[] position; // index of each CPU in heap
+        private final int[] end;
+
+        SliceClock(int cpus) {
+            heap = new int[cpus];
+            position = new int[cpus];
+            end = new int[cpus];
+            for (int cpu = 0; cpu < cpus; cpu++) {
+                heap[cpu] = cpu;
+                position[cpu] = cpu;
+                end[cpu] = Integer.MAX_VALUE;
+            }
+        }
+
+        int nextTime() {
+            return end[heap[0]];
+        }
+
+        int first() {
+            return heap[0];
+        }
+
+        void set(int cpu, int time) {
+            int old = end[cpu];
+            end[cpu] = time;
+            if (time < old) {
+                siftUp(position[cpu]);
+            } else if (time > old) {
+                siftDown(position[cpu]);
+            }
+        }
+
+        private boolean before(int a, int b) {
+            return end[a] < end[b] || (end[a] == end[b] && a < b);
+        }
+
+        private void siftUp(int pos) {
+            int cpu = heap[pos];
+            while (pos > 0) {
+                int parent = (pos - 1) >>> 1;
+                if (!before(cpu, heap[parent])) {
+                    break;
+                }
+                move(heap[parent], pos);
+                pos = parent;
+            }
+            move(cpu, pos);
+        }
+
+        private void siftDown(int pos) {
+            int cpu = heap[pos];
+            int size = heap.length;
+            while (2 * pos + 1 < size) {
+                int child = 2 * pos + 1;
+                if (child + 1 < size && before(heap[child + 1], heap[child])) {
+                    child++;
+                }
+                if (!before(heap[child], cpu)) {
+                    break;
+                }
+                move(heap[child], pos);
+                pos = child;
+            }
+            move(cpu, pos);
+        }
+
+        private void move(int cpu, int pos) {
+            heap[pos] = cpu;
+            position[cpu] = pos;
+        }
+    }
+}
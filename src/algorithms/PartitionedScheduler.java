@@ -0,0 +1,285 @@
+package algorithms;
+
+import models.GanttTimeline;
+import models.Process;
+import models.ProcessTable;
+import models.RunStatistics;
+import models.SchedulingMetrics;
+import models.SchedulingResult;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Decorator that schedules a long single-CPU workload one stretch of busy periods at a time, in parallel
+ * The engines that support checkpoints are work conserving and start from a
+ * clean state whenever the CPU goes idle: every ready queue is empty and time
+ * jumps to the next arrival. BusyPeriods finds those idle gaps with a
+ * parallel scan; consecutive busy periods are grouped into chunks, and each
+ * chunk is scheduled by the delegate on its own fork-join task as a separate
+ * table of its rows, kept in their original row order so tie-breaks do not
+ * change. The chunks' results, Gantt charts and counters are then joined in
+ * time order, giving the same result as the delegate alone.
+ *
+ * The only thing carried over a gap is SRTF's chart layout, which depends on
+ * the chart's lead (see ChartLead). SRTF chunks after the first are scheduled
+ * with a lead above any ready queue they hold, recording their resumptions;
+ * the real leads are then chained through those records, and the chunks
+ * whose real lead is not that large are scheduled again, in parallel, with
+ * it. A join is never made onto a slice of the same process ID while the
+ * chart is closed, and the other engines' charts must be closed at every
+ * gap; otherwise the delegate is run on the whole workload instead.
+ * Delegates without checkpoint support, and workloads too small to split,
+ * are also run directly.
+ */
+public class PartitionedScheduler implements Scheduler {
+    /** Fewest processes per chunk; smaller workloads are not split */
+    public static final int MIN_CHUNK = 1 << 15;
+
+    private final Scheduler delegate;
+
+    public PartitionedScheduler(Scheduler delegate) {
+        this.delegate = delegate;
+    }
+
+    public Scheduler getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Whether a scheduler's engine can be split at idle gaps
+     */
+    public static boolean supports(Scheduler scheduler) {
+        return scheduler instanceof Resumable && ((Resumable) scheduler).supportsCheckpoints();
+    }
+
+    @Override
+    public SchedulingResult schedule(List<Process> processes) {
+        return schedule(processes, ProgressMonitor.NONE);
+    }
+
+    /**
+     * Schedule the processes as a ProcessTable, so results are reported in list order
+     */
+    @Override
+    public SchedulingResult schedule(List<Process> processes, ProgressMonitor monitor) {
+        if (!supports(delegate)) {
+            return delegate.schedule(processes, monitor);
+        }
+        List<Process> processCopies = new ArrayList<>();
+        for (Process p : processes) {
+            processCopies.add(p.copy());
+        }
+        return schedule(ProcessTable.fromProcesses(processCopies), monitor);
+    }
+
+    @Override
+    public SchedulingResult schedule(ProcessTable processes) {
+        return schedule(processes, ProgressMonitor.NONE);
+    }
+
+    /**
+     * Large workloads are marked parallel in their RunStatistics, so InstrumentedScheduler leaves CPU time and allocation unmeasured
+     * @throws CancellationException If the monitor asks to cancel
+     */
+    @Override
+    public SchedulingResult schedule(ProcessTable processes, ProgressMonitor monitor) {
+        int n = processes.size();
+        if (!supports(delegate) || n < 2 * MIN_CHUNK) {
+            return delegate.schedule(processes, monitor);
+        }
+        // Finding the gaps already runs on worker threads, even if the delegate then runs alone
+        SchedulingResult result = split(processes, monitor);
+        result.getStatistics().markParallel();
+        return result;
+    }
+
+    /**
+     * Schedule the chunks between idle gaps in parallel, or the whole workload if it cannot be split
+     */
+    private SchedulingResult split(ProcessTable processes, ProgressMonitor monitor) {
+        int n = processes.size();
+        int[] arrivalOrder = ArrivalOrder.sortedIndices(processes, true);
+        int[] starts = BusyPeriods.starts(processes.getArrivalTimes(), processes.getBurstTimes(),
+                processes.getRemainingTimes(), arrivalOrder);
+        if (starts == null) {
+            return delegate.schedule(processes, monitor);
+        }
+        List<int[]> chunks = chunk(starts, n, Math.max(MIN_CHUNK, n / (4 * ForkJoinPool.getCommonPoolParallelism())));
+        if (chunks.size() < 2) {
+            return delegate.schedule(processes, monitor);
+        }
+
+        // Original row order keeps every engine's tie-breaks
+        int[][] rows = new int[chunks.size()][];
+        List<Integer> all = new ArrayList<>();
+        for (int k = 0; k < rows.length; k++) {
+            rows[k] = Arrays.copyOfRange(arrivalOrder, chunks.get(k)[0], chunks.get(k)[1]);
+            Arrays.sort(rows[k]);
+            all.add(k);
+        }
+        SJFScheduler srtf = delegate instanceof SJFScheduler && ((SJFScheduler) delegate).isPreemptive()
+                ? (SJFScheduler) delegate : null;
+        ChartLead[] leads = null;
+        if (srtf != null) {
+            leads = new ChartLead[rows.length];
+            for (int k = 1; k < rows.length; k++) {
+                leads[k] = new ChartLead(rows[k].length + 1);
+            }
+        }
+
+        ProcessTable table = processes.copy();
+        SchedulingResult[] parts = new SchedulingResult[rows.length];
+        run(processes, table, rows, all, srtf, leads, parts, monitor, true);
+        if (srtf != null) {
+            run(processes, table, rows, chainLeads(parts, leads), srtf, leads, parts, monitor, false);
+        }
+        SchedulingResult result = join(table, rows, leads, parts);
+        return result != null ? result : delegate.schedule(processes, monitor);
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return delegate.getAlgorithmName();
+    }
+
+    /**
+     * Group consecutive busy periods into ranges of the arrival order holding at least size processes
+     * @param starts Arrival-order positions at which busy periods start
+     * @return {from, to} ranges covering the whole order
+     */
+    private static List<int[]> chunk(int[] starts, int n, int size) {
+        List<int[]> chunks = new ArrayList<>();
+        int from = 0;
+        for (int start : starts) {
+            if (start - from >= size) {
+                chunks.add(new int[] {from, start});
+                from = start;
+            }
+        }
+        chunks.add(new int[] {from, n});
+        return chunks;
+    }
+
+    /**
+     * Chain the real chart leads through the SRTF chunks' recorded resumptions
+     * @return Chunks whose real lead could have changed their layout, with that lead now set in leads
+     */
+    private static List<Integer> chainLeads(SchedulingResult[] parts, ChartLead[] leads) {
+        GanttTimeline first = parts[0].getGanttTimeline();
+        int lead = first.getTimeCount() - first.getSliceCount();
+        List<Integer> again = new ArrayList<>();
+        for (int k = 1; k < parts.length; k++) {
+            int next = leads[k].after(lead);
+            // A resumption cannot see a lead above the ready queue drop to 0
+            if (lead <= parts[k].getStatistics().getPeakReadyQueue()) {
+                leads[k] = new ChartLead(lead);
+                again.add(k);
+            }
+            lead = next;
+        }
+        return again;
+    }
+
+    /**
+     * Schedule the given chunks on the common fork-join pool, writing each one's results into the table
+     * The monitor sees completed processes summed over all chunks and is called from the worker threads.
+     * @param processes The unscheduled workload
+     * @param leads Lead each SRTF chunk after the first is scheduled with, or null for other engines
+     * @param counted Whether to report progress, so chunks scheduled again are not counted twice
+     */
+    private void run(ProcessTable processes, ProcessTable table, int[][] rows, List<Integer> chunks,
+                     SJFScheduler srtf, ChartLead[] leads, SchedulingResult[] parts,
+                     ProgressMonitor monitor, boolean counted) {
+        long total = table.size();
+        AtomicLongArray completedPerChunk = new AtomicLongArray(rows.length);
+        AtomicLong completed = new AtomicLong();
+
+        List<Callable<SchedulingResult>> tasks = new ArrayList<>();
+        for (int chunk : chunks) {
+            ProgressMonitor chunkMonitor = new ProgressMonitor() {
+                @Override
+                public void progress(long chunkCompleted, long chunkTotal, long simulatedTime) {
+                    if (counted) {
+                        long sum = completed.addAndGet(chunkCompleted - completedPerChunk.getAndSet(chunk, chunkCompleted));
+                        monitor.progress(sum, total, simulatedTime);
+                    }
+                }
+
+                @Override
+                public boolean isCancelled() {
+                    return monitor.isCancelled();
+                }
+            };
+            tasks.add(() -> {
+                if (monitor.isCancelled()) {
+                    throw new CancellationException("Partitioned run cancelled");
+                }
+                ProcessTable part = processes.select(rows[chunk]);
+                SchedulingResult result = leads != null && chunk > 0
+                        ? srtf.scheduleAfterGap(part, leads[chunk], chunkMonitor)
+                        : delegate.schedule(part, chunkMonitor);
+                table.copyResultsFrom(result.getProcessTable(), rows[chunk]);
+                result.setProcessTable(null);
+                parts[chunk] = result;
+                return result;
+            });
+        }
+
+        for (Future<SchedulingResult> future : ForkJoinPool.commonPool().invokeAll(tasks)) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Partitioned run interrupted", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof CancellationException) {
+                    throw (CancellationException) e.getCause();
+                }
+                throw new IllegalStateException("Partitioned run failed: " + e.getCause().getMessage(), e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Join the chunks' Gantt charts and counters in time order
+     * @return null if some chart cannot be joined exactly
+     */
+    private static SchedulingResult join(ProcessTable table, int[][] rows, ChartLead[] leads,
+                                         SchedulingResult[] parts) {
+        SchedulingResult result = new SchedulingResult(parts[0].getAlgorithmName());
+        GanttTimeline gantt = result.getGanttTimeline();
+        RunStatistics stats = result.getStatistics();
+        int slices = 0;
+        int times = 0;
+        for (SchedulingResult part : parts) {
+            slices += part.getGanttTimeline().getSliceCount();
+            times += part.getGanttTimeline().getTimeCount();
+        }
+        gantt.ensureCapacity(slices, times);
+        for (int k = 0; k < parts.length; k++) {
+            GanttTimeline part = parts[k].getGanttTimeline();
+            // Every later chart opens with the run's start time, or SRTF's stand-in for the lead, which is dropped
+            int opening = 0;
+            if (k > 0) {
+                int lead = gantt.getTimeCount() - gantt.getSliceCount();
+                if (leads == null && lead != 1) {
+                    return null;
+                }
+                // A closed chart would have reopened its last slice for the same process
+                if (lead == 1 && !part.isEmpty() && !gantt.isEmpty()
+                        && part.getProcessId(0) == gantt.getProcessId(gantt.getSliceCount() - 1)) {
+                    return null;
+                }
+                opening = leads != null ? leads[k].openingTimes(rows[k].length) : 1;
+            }
+            gantt.append(part, 0, opening);
+            stats.concat(parts[k].getStatistics());
+        }
+
+        result.setProcessTable(table);
+        SchedulingMetrics.of(table).applyTo(result, gantt.getEndTime());
+        return result;
+    }
+}
@@ -0,0 +1,18 @@
+package algorithms;
+
+import models.ProcessTable;
+import models.SchedulingResult;
+
+/**
+ * Scheduler that can run on a workload whose arrival order is already known
+ * Lets QuantumSweep sort a workload once and share it between many runs.
+ */
+interface PresortedScheduler {
+
+    /**
+     * Schedule the table in place, writing only its result columns
+     * @param table Unscheduled workload, usually from ProcessTable.withSharedInputs()
+     * @param arrivalOrder Table rows sorted by arrival time, ties in row order; read only
+     */
+    SchedulingResult schedulePresorted(ProcessTable table, int[] arrivalOrder, ProgressMonitor monitor);
+}
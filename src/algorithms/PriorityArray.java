@@ -0,0 +1,112 @@
+package algorithms;
+
+import java.util.*;
+
+/**
+ * Ready queue of up to MAX_LEVELS FIFO levels, after the Linux O(1) scheduler's priority arrays
+ * Each level is a linked list of table rows threaded through one shared
+ * next-row array, and bit i of the bitmap is set while level i is non-empty.
+ * Adding a row, taking the first row of the highest non-empty level (a
+ * find-first-set over three words) and moving every row to the top level
+ * all take time independent of the number of rows.
+ */
+final class PriorityArray {
+    static final int MAX_LEVELS = 140;
+    private static final int NONE = -1;
+
+    private final long[] bitmap = new long[(MAX_LEVELS + 63) / 64];
+    private final int[] head;
+    private final int[] tail;
+    private final int[] next;
+    private int size;
+
+    /**
+     * @param levels Number of levels, 1 to MAX_LEVELS; level 0 is the highest
+     * @param rows Rows that can be queued, 0 to rows - 1
+     */
+    PriorityArray(int levels, int rows) {
+        this.head = new int[levels];
+        this.tail = new int[levels];
+        this.next = new int[rows];
+        Arrays.fill(head, NONE);
+        Arrays.fill(tail, NONE);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Queue a row at the back of a level
+     */
+    void add(int row, int level) {
+        next[row] = NONE;
+        if (head[level] == NONE) {
+            head[level] = row;
+            bitmap[level >>> 6] |= 1L << level;
+        } else {
+            next[tail[level]] = row;
+        }
+        tail[level] = row;
+        size++;
+    }
+
+    /**
+     * Highest non-empty level, or -1 if nothing is queued
+     */
+    int highestLevel() {
+        for (int word = 0; word < bitmap.length; word++) {
+            if (bitmap[word] != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bitmap[word]);
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Remove and return the row at the front of a non-empty level
+     */
+    int poll(int level) {
+        int row = head[level];
+        head[level] = next[row];
+        if (head[level] == NONE) {
+            tail[level] = NONE;
+            bitmap[level >>> 6] &= ~(1L << level);
+        }
+        size--;
+        return row;
+    }
+
+    /**
+     * Move every queued row to the back of level 0, level by level, keeping their order
+     * Splices the lists, so it takes time proportional to the levels, not the rows.
+     */
+    void moveAllToTop() {
+        int last = tail[0];
+        for (int word = 0; word < bitmap.length; word++) {
+            // Level 0 keeps its rows in place
+            long bits = word == 0 ? bitmap[0] & ~1L : bitmap[word];
+            while (bits != 0) {
+                int level = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                if (last == NONE) {
+                    head[0] = head[level];
+                } else {
+                    next[last] = head[level];
+                }
+                last = tail[level];
+                head[level] = NONE;
+                tail[level] = NONE;
+            }
+            bitmap[word] = 0;
+        }
+        tail[0] = last;
+        if (last != NONE) {
+            bitmap[0] = 1L;
+        }
+    }
+}
@@ -1,24 +1,38 @@
 package algorithms;
 
 import models.Process;
+import models.ProcessTable;
+import models.RunStatistics;
+import models.SchedulingMetrics;
 import models.SchedulingResult;
 import java.util.*;
 
 /**
  * Priority Scheduling Algorithm
  * Processes are scheduled based on priority (lower number = higher priority)
+ * Ties are broken by arrival time, then by process ID
+ * Both modes are event-driven: a sorted arrival cursor feeds a priority heap
+ * and time only advances to the next arrival or completion
  */
-public class PriorityScheduler implements Scheduler {
+public class PriorityScheduler implements Scheduler, Resumable {
     private boolean preemptive;
 
     public PriorityScheduler(boolean preemptive) {
         this.preemptive = preemptive;
     }
 
+    public boolean isPreemptive() {
+        return preemptive;
+    }
+
     @Override
     public SchedulingResult schedule(List<Process> processes) {
-        String algName = preemptive ? "Priority Scheduling (Preemptive)" : "Priority Scheduling (Non-Preemptive)";
-        SchedulingResult result = new SchedulingResult(algName);
+        return schedule(processes, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public SchedulingResult schedule(List<Process> processes, ProgressMonitor monitor) {
+        SchedulingResult result = new SchedulingResult(getAlgorithmName());
 
         // Create copies to avoid modifying original list
         List<Process> processCopies = new ArrayList<>();
@@ -26,156 +40,200 @@ public class PriorityScheduler implements Scheduler {
             processCopies.add(p.copy());
         }
 
+        ProcessTable table = ProcessTable.fromProcesses(processCopies);
+        run(table, result, monitor, null);
+        table.copyResultsTo(processCopies);
+        result.setProcesses(processCopies);
+
+        return result;
+    }
+
+    @Override
+    public SchedulingResult schedule(ProcessTable processes) {
+        return schedule(processes, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public SchedulingResult schedule(ProcessTable processes, ProgressMonitor monitor) {
+        SchedulingResult result = new SchedulingResult(getAlgorithmName());
+        ProcessTable table = processes.copy();
+        run(table, result, monitor, null);
+        result.setProcessTable(table);
+        return result;
+    }
+
+    @Override
+    public boolean supportsCheckpoints() {
+        return true;
+    }
+
+    @Override
+    public SchedulingResult resume(Checkpoints checkpoints, ProgressMonitor monitor) {
+        SchedulingResult result = new SchedulingResult(getAlgorithmName());
+        run(checkpoints.getTable(), result, monitor, checkpoints);
+        result.setProcessTable(checkpoints.getTable());
+        return result;
+    }
+
+    /**
+     * @param checkpoints Checkpoint log for incremental runs, or null
+     */
+    private void run(ProcessTable table, SchedulingResult result, ProgressMonitor monitor,
+                     Checkpoints checkpoints) {
+        ProgressTracker progress = checkpoints != null
+                ? checkpoints.begin(result, monitor) : new ProgressTracker(monitor, table.size());
         if (preemptive) {
-            schedulePreemptive(processCopies, result);
+            schedulePreemptive(table, result, progress, checkpoints);
         } else {
-            scheduleNonPreemptive(processCopies, result);
+            scheduleNonPreemptive(table, result, progress, checkpoints);
         }
+        SchedulingMetrics.of(table).applyTo(result, result.getGanttTimeline().getEndTime());
+    }
 
-        calculateMetrics(processCopies, result);
-        result.setProcesses(processCopies);
-
-        return result;
+    /**
+     * Ready set ordered by priority (lower number first), then arrival time, then PID
+     */
+    private ReadyHeap createReadyHeap(ProcessTable table) {
+        int[] priority = table.getPriorities();
+        int[] arrival = table.getArrivalTimes();
+        int[] pid = table.getProcessIds();
+        return new ReadyHeap(table.size(), (a, b) -> {
+            if (priority[a] != priority[b]) {
+                return priority[a] < priority[b];
+            }
+            if (arrival[a] != arrival[b]) {
+                return arrival[a] < arrival[b];
+            }
+            return pid[a] < pid[b];
+        });
     }
 
-    private void scheduleNonPreemptive(List<Process> processes, SchedulingResult result) {
+    private void scheduleNonPreemptive(ProcessTable table, SchedulingResult result, ProgressTracker progress,
+                                       Checkpoints checkpoints) {
+        int n = table.size();
+        int[] arrival = table.getArrivalTimes();
+        int[] burst = table.getBurstTimes();
+        int[] pid = table.getProcessIds();
+        int[] arrivalOrder = checkpoints != null ? checkpoints.getArrivalOrder() : ArrivalOrder.sortedIndices(table);
+        ReadyHeap ready = createReadyHeap(table);
+        RunStatistics stats = result.getStatistics();
+        Checkpoint start = checkpoints != null ? checkpoints.getStart() : null;
+
         int currentTime = 0;
-        boolean[] completed = new boolean[processes.size()];
-        result.addToGanttTime(0);
-
-        for (int i = 0; i < processes.size(); i++) {
-            int highest = -1;
-            int maxPriority = Integer.MAX_VALUE;
-
-            // Find process with highest priority (lowest number) among arrived processes
-            for (int j = 0; j < processes.size(); j++) {
-                if (!completed[j] && processes.get(j).getArrivalTime() <= currentTime) {
-                    if (processes.get(j).getPriority() < maxPriority) {
-                        maxPriority = processes.get(j).getPriority();
-                        highest = j;
-                    }
-                }
+        int next = 0;
+        if (start != null) {
+            currentTime = start.time;
+            next = start.cursor;
+            ready.restore(start.queues[0]);
+        } else {
+            result.addToGanttTime(0);
+        }
+
+        while (next < n || !ready.isEmpty()) {
+            if (checkpoints != null && checkpoints.due(currentTime, next)
+                    && checkpoints.capture(currentTime, next, Checkpoints.NO_REGISTERS, ready.toArray())) {
+                currentTime = checkpoints.getEndTime();
+                break;
             }
 
-            // If no process has arrived, get the next arriving process with highest priority
-            if (highest == -1) {
-                int minArrival = Integer.MAX_VALUE;
-                for (int j = 0; j < processes.size(); j++) {
-                    if (!completed[j]) {
-                        if (processes.get(j).getArrivalTime() < minArrival) {
-                            minArrival = processes.get(j).getArrivalTime();
-                        }
-                    }
-                }
-                
-                maxPriority = Integer.MAX_VALUE;
-                for (int j = 0; j < processes.size(); j++) {
-                    if (!completed[j] && processes.get(j).getArrivalTime() == minArrival) {
-                        if (processes.get(j).getPriority() < maxPriority) {
-                            maxPriority = processes.get(j).getPriority();
-                            highest = j;
-                        }
-                    }
-                }
-                currentTime = processes.get(highest).getArrivalTime();
+            // If nothing is ready, jump to the next arrival
+            if (ready.isEmpty() && arrival[arrivalOrder[next]] > currentTime) {
+                currentTime = arrival[arrivalOrder[next]];
+            }
+            while (next < n && arrival[arrivalOrder[next]] <= currentTime) {
+                ready.push(arrivalOrder[next++]);
             }
 
-            // Execute the process
-            Process p = processes.get(highest);
-            result.addToGanttChart(p.getProcessId());
-            currentTime += p.getBurstTime();
+            // Execute the highest priority process to completion
+            stats.observeReadyQueue(ready.size());
+            int highest = ready.poll();
+            stats.recordDispatch(pid[highest]);
+            table.start(highest, currentTime);
+            progress.tick(currentTime);
+            result.addToGanttChart(pid[highest]);
+            currentTime += burst[highest];
             result.addToGanttTime(currentTime);
-
-            p.setCompletionTime(currentTime);
-            p.setTurnaroundTime(p.getCompletionTime() - p.getArrivalTime());
-            p.setWaitingTime(p.getTurnaroundTime() - p.getBurstTime());
-            
-            completed[highest] = true;
+            table.complete(highest, currentTime);
+            progress.complete();
         }
+        progress.finish(currentTime);
     }
 
-    private void schedulePreemptive(List<Process> processes, SchedulingResult result) {
+    private void schedulePreemptive(ProcessTable table, SchedulingResult result, ProgressTracker progress,
+                                    Checkpoints checkpoints) {
+        int n = table.size();
+        int[] arrival = table.getArrivalTimes();
+        int[] remaining = table.getRemainingTimes();
+        int[] pid = table.getProcessIds();
+        int[] arrivalOrder = checkpoints != null ? checkpoints.getArrivalOrder() : ArrivalOrder.sortedIndices(table);
+        ReadyHeap ready = createReadyHeap(table);
+        RunStatistics stats = result.getStatistics();
+        Checkpoint start = checkpoints != null ? checkpoints.getStart() : null;
+
         int currentTime = 0;
-        int completed = 0;
-        int n = processes.size();
-        boolean[] isCompleted = new boolean[n];
-        result.addToGanttTime(0);
+        int next = 0;
         int lastProcessId = -1;
+        if (start != null) {
+            currentTime = start.time;
+            next = start.cursor;
+            lastProcessId = start.registers[0];
+            ready.restore(start.queues[0]);
+        } else {
+            result.addToGanttTime(0);
+        }
 
-        while (completed < n) {
-            // Find process with highest priority (lowest number) among arrived processes
-            int highest = -1;
-            int minPriority = Integer.MAX_VALUE;
-
-            for (int i = 0; i < n; i++) {
-                if (!isCompleted[i] && processes.get(i).getArrivalTime() <= currentTime) {
-                    if (processes.get(i).getPriority() < minPriority) {
-                        minPriority = processes.get(i).getPriority();
-                        highest = i;
-                    }
-                }
+        while (next < n || !ready.isEmpty()) {
+            if (checkpoints != null && checkpoints.due(currentTime, next)
+                    && checkpoints.capture(currentTime, next, new int[] {lastProcessId}, ready.toArray())) {
+                currentTime = checkpoints.getEndTime();
+                break;
             }
 
-            // If no process has arrived, jump to next arrival
-            if (highest == -1) {
-                int minArrival = Integer.MAX_VALUE;
-                for (int i = 0; i < n; i++) {
-                    if (!isCompleted[i] && processes.get(i).getArrivalTime() < minArrival) {
-                        minArrival = processes.get(i).getArrivalTime();
-                        highest = i;
-                    }
-                }
-                currentTime = processes.get(highest).getArrivalTime();
-                continue;
+            // If nothing is ready, jump to the next arrival
+            if (ready.isEmpty() && arrival[arrivalOrder[next]] > currentTime) {
+                currentTime = arrival[arrivalOrder[next]];
             }
+            while (next < n && arrival[arrivalOrder[next]] <= currentTime) {
+                ready.push(arrivalOrder[next++]);
+            }
+
+            stats.observeReadyQueue(ready.size());
+            int current = ready.poll();
+            stats.recordDispatch(pid[current]);
+            table.start(current, currentTime);
+            progress.tick(currentTime);
 
-            // Execute for 1 time unit
-            Process p = processes.get(highest);
-            
-            if (lastProcessId != p.getProcessId()) {
+            // A context switch closes the running slice and opens a new one
+            if (lastProcessId != pid[current]) {
                 if (lastProcessId != -1) {
                     result.addToGanttTime(currentTime);
                 }
-                result.addToGanttChart(p.getProcessId());
-                lastProcessId = p.getProcessId();
+                result.addToGanttChart(pid[current]);
+                lastProcessId = pid[current];
             }
 
-            p.setRemainingTime(p.getRemainingTime() - 1);
-            currentTime++;
+            // Run until completion or the next arrival, which may preempt
+            int runUntil = currentTime + remaining[current];
+            if (next < n && arrival[arrivalOrder[next]] < runUntil) {
+                runUntil = arrival[arrivalOrder[next]];
+            }
+            remaining[current] -= runUntil - currentTime;
+            currentTime = runUntil;
 
-            if (p.getRemainingTime() == 0) {
-                p.setCompletionTime(currentTime);
-                p.setTurnaroundTime(p.getCompletionTime() - p.getArrivalTime());
-                p.setWaitingTime(p.getTurnaroundTime() - p.getBurstTime());
-                isCompleted[highest] = true;
-                completed++;
+            if (remaining[current] == 0) {
+                result.addToGanttTime(currentTime);
+                table.complete(current, currentTime);
                 lastProcessId = -1;
+                progress.complete();
+            } else {
+                ready.push(current);
             }
         }
-
-        result.addToGanttTime(currentTime);
+        progress.finish(currentTime);
     }
 
     @Override
     public String getAlgorithmName() {
         return preemptive ? "Priority Scheduling (Preemptive)" : "Priority Scheduling (Non-Preemptive)";
     }
-
-    private void calculateMetrics(List<Process> processes, SchedulingResult result) {
-        double totalWaitingTime = 0;
-        double totalTurnaroundTime = 0;
-        int totalBurstTime = 0;
-
-        for (Process p : processes) {
-            totalWaitingTime += p.getWaitingTime();
-            totalTurnaroundTime += p.getTurnaroundTime();
-            totalBurstTime += p.getBurstTime();
-        }
-
-        result.setAverageWaitingTime(totalWaitingTime / processes.size());
-        result.setAverageTurnaroundTime(totalTurnaroundTime / processes.size());
-
-        int totalTime = result.getGanttTime().get(result.getGanttTime().size() - 1);
-        result.setCpuUtilization((double) totalBurstTime / totalTime * 100);
-    }
 }
@@ -0,0 +1,89 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * FIFO ready queue that stores the processes themselves rather than table rows
+ * Used by the streaming schedulers, where there is no table to index into.
+ * Columns live in power-of-two int ring buffers; the head is read through
+ * the head*() accessors and then removed.
+ */
+final class ProcessRing {
+    private int[] processIds;
+    private int[] arrivalTimes;
+    private int[] burstTimes;
+    private int[] remainingTimes;
+    private int head;
+    private int size;
+    private int mask;
+
+    ProcessRing(int capacity) {
+        int length = Integer.highestOneBit(Math.min(Math.max(capacity, 2), 1 << 30) - 1) << 1;
+        processIds = new int[length];
+        arrivalTimes = new int[length];
+        burstTimes = new int[length];
+        remainingTimes = new int[length];
+        mask = length - 1;
+    }
+
+    void add(int processId, int arrivalTime, int burstTime, int remainingTime) {
+        if (size == processIds.length) {
+            grow();
+        }
+        int tail = (head + size) & mask;
+        processIds[tail] = processId;
+        arrivalTimes[tail] = arrivalTime;
+        burstTimes[tail] = burstTime;
+        remainingTimes[tail] = remainingTime;
+        size++;
+    }
+
+    int headProcessId() {
+        return processIds[head];
+    }
+
+    int headArrivalTime() {
+        return arrivalTimes[head];
+    }
+
+    int headBurstTime() {
+        return burstTimes[head];
+    }
+
+    int headRemainingTime() {
+        return remainingTimes[head];
+    }
+
+    void removeHead() {
+        head = (head + 1) & mask;
+        size--;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void grow() {
+        processIds = unwrap(processIds);
+        arrivalTimes = unwrap(arrivalTimes);
+        burstTimes = unwrap(burstTimes);
+        remainingTimes = unwrap(remainingTimes);
+        head = 0;
+        mask = processIds.length - 1;
+    }
+
+    /**
+     * Copy the ring into a buffer of twice the size with the head at index 0
+     */
+    private int[] unwrap(int[] column) {
+        int[] grown = Arrays.copyOf(column, column.length * 2);
+        int firstPart = column.length - head;
+        System.arraycopy(column, head, grown, 0, firstPart);
+        System.arraycopy(column, 0, grown, firstPart, head);
+        return grown;
+    }
+}
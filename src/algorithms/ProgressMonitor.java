@@ -0,0 +1,29 @@
+package algorithms;
+
+/**
+ * Receives progress from a running scheduler and can ask it to stop
+ * Schedulers call back from their own thread every few thousand dispatch
+ * decisions, so implementations should be cheap and thread-safe. When
+ * isCancelled() returns true the run stops with a CancellationException.
+ */
+public interface ProgressMonitor {
+
+    /**
+     * Monitor that ignores progress and never cancels
+     */
+    ProgressMonitor NONE = (completed, total, simulatedTime) -> { };
+
+    /**
+     * @param completed Processes completed so far
+     * @param total Processes in the run, or -1 when unknown (streamed traces)
+     * @param simulatedTime Current simulated time
+     */
+    void progress(long completed, long total, long simulatedTime);
+
+    /**
+     * Polled together with each progress report
+     */
+    default boolean isCancelled() {
+        return false;
+    }
+}
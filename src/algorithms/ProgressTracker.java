@@ -0,0 +1,63 @@
+package algorithms;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Rate-limits ProgressMonitor calls for the scheduling loops
+ * Engines call tick() once per dispatch and complete() once per finished
+ * process; the monitor is only consulted every REPORT_INTERVAL dispatches,
+ * which keeps the per-event cost to a counter decrement.
+ */
+final class ProgressTracker {
+    static final int REPORT_INTERVAL = 4096;
+
+    private final ProgressMonitor monitor;
+    private final long total;
+    private long completed;
+    private int countdown = REPORT_INTERVAL;
+
+    ProgressTracker(ProgressMonitor monitor, long total) {
+        this.monitor = monitor;
+        this.total = total;
+    }
+
+    void complete() {
+        completed++;
+    }
+
+    /**
+     * Set the completed count, for runs resumed from a checkpoint
+     */
+    void setCompleted(long completed) {
+        this.completed = completed;
+    }
+
+    /**
+     * Count one dispatch, reporting every REPORT_INTERVAL dispatches
+     * @throws CancellationException If the monitor has been cancelled
+     */
+    void tick(long simulatedTime) {
+        if (--countdown == 0) {
+            countdown = REPORT_INTERVAL;
+            report(simulatedTime);
+        }
+    }
+
+    /**
+     * Report now
+     * @throws CancellationException If the monitor has been cancelled
+     */
+    void report(long simulatedTime) {
+        if (monitor.isCancelled()) {
+            throw new CancellationException("Scheduling cancelled");
+        }
+        monitor.progress(completed, total, simulatedTime);
+    }
+
+    /**
+     * Final report once the run has finished
+     */
+    void finish(long simulatedTime) {
+        monitor.progress(completed, total, simulatedTime);
+    }
+}
@@ -0,0 +1,229 @@
+package algorithms;
+
+import models.ProcessTable;
+import models.SchedulingResult;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Parameter sweep over Round Robin and Multilevel Queue time quanta
+ * The workload is sorted by arrival once and its input columns are shared
+ * read-only by every run; each run allocates only its own result columns.
+ * Runs execute in parallel on the common fork-join pool and keep only their
+ * summary metrics, so large grids do not hold every Gantt chart in memory.
+ */
+public final class QuantumSweep {
+
+    private QuantumSweep() {
+    }
+
+    /**
+     * Metrics of one grid point
+     */
+    public static final class Point {
+        private final String algorithmName;
+        private final int[] quanta;
+        private final double averageWaitingTime;
+        private final double averageTurnaroundTime;
+        private final long contextSwitches;
+
+        Point(String algorithmName, int[] quanta, SchedulingResult result) {
+            this.algorithmName = algorithmName;
+            this.quanta = quanta.clone();
+            this.averageWaitingTime = result.getAverageWaitingTime();
+            this.averageTurnaroundTime = result.getAverageTurnaroundTime();
+            this.contextSwitches = result.getStatistics().getContextSwitches();
+        }
+
+        public String getAlgorithmName() {
+            return algorithmName;
+        }
+
+        /**
+         * Time quantum of each queue; a single entry for Round Robin
+         */
+        public int[] getQuanta() {
+            return quanta.clone();
+        }
+
+        public double getAverageWaitingTime() {
+            return averageWaitingTime;
+        }
+
+        public double getAverageTurnaroundTime() {
+            return averageTurnaroundTime;
+        }
+
+        public long getContextSwitches() {
+            return contextSwitches;
+        }
+
+        /**
+         * Whether this point is no worse on every metric and better on at least one
+         */
+        public boolean dominates(Point other) {
+            return averageWaitingTime <= other.averageWaitingTime
+                    && averageTurnaroundTime <= other.averageTurnaroundTime
+                    && contextSwitches <= other.contextSwitches
+                    && (averageWaitingTime < other.averageWaitingTime
+                        || averageTurnaroundTime < other.averageTurnaroundTime
+                        || contextSwitches < other.contextSwitches);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: wait %.2f, turnaround %.2f, %d context switches",
+                    algorithmName, averageWaitingTime, averageTurnaroundTime, contextSwitches);
+        }
+    }
+
+    /**
+     * Run Round Robin once per time quantum
+     * @return One point per quantum, in the given order
+     * @throws CancellationException If the monitor asks to cancel
+     */
+    public static List<Point> roundRobin(ProcessTable workload, int[] quanta, ProgressMonitor monitor) {
+        List<int[]> grid = new ArrayList<>();
+        for (int quantum : quanta) {
+            grid.add(new int[]{quantum});
+        }
+        return sweep(workload, grid, "Round Robin", quantum -> new RoundRobinScheduler(quantum[0]), monitor);
+    }
+
+    /**
+     * Run the Multilevel Queue scheduler once per set of queue quanta
+     * @param quantumSets Quantum for each of the three queues, per grid point
+     * @return One point per quantum set, in the given order
+     * @throws CancellationException If the monitor asks to cancel
+     */
+    public static List<Point> multilevelQueue(ProcessTable workload, List<int[]> quantumSets,
+                                              ProgressMonitor monitor) {
+        for (int[] quanta : quantumSets) {
+            if (quanta.length != 3) {
+                throw new IllegalArgumentException("Multilevel Queue needs 3 quanta, got " + quanta.length);
+            }
+        }
+        return sweep(workload, quantumSets, "Multilevel Queue",
+                quanta -> new MultilevelQueueScheduler(quanta.clone()), monitor);
+    }
+
+    /**
+     * Every non-decreasing choice of one value per queue
+     * Lower-priority queues conventionally get a quantum at least as long as
+     * the queue above, which keeps the grid to C(values + levels - 1, levels) points.
+     */
+    public static List<int[]> nonDecreasingQuanta(int[] values, int levels) {
+        int[] sorted = Arrays.stream(values).filter(v -> v > 0).distinct().sorted().toArray();
+        List<int[]> grid = new ArrayList<>();
+        if (sorted.length > 0) {
+            addQuanta(sorted, new int[levels], 0, 0, grid);
+        }
+        return grid;
+    }
+
+    private static void addQuanta(int[] values, int[] quanta, int level, int from, List<int[]> grid) {
+        if (level == quanta.length) {
+            grid.add(quanta.clone());
+            return;
+        }
+        for (int i = from; i < values.length; i++) {
+            quanta[level] = values[i];
+            addQuanta(values, quanta, level + 1, i, grid);
+        }
+    }
+
+    /**
+     * Points not dominated by any other, minimising waiting time, turnaround time and context switches
+     * @return The Pareto front, ordered by average waiting time
+     */
+    public static List<Point> paretoFront(List<Point> points) {
+        List<Point> sorted = new ArrayList<>(points);
+        sorted.sort(Comparator.comparingDouble(Point::getAverageWaitingTime)
+                .thenComparingDouble(Point::getAverageTurnaroundTime)
+                .thenComparingLong(Point::getContextSwitches));
+
+        // A point can only be dominated by one sorted before it
+        List<Point> front = new ArrayList<>();
+        for (Point candidate : sorted) {
+            boolean dominated = false;
+            for (Point kept : front) {
+                if (kept.dominates(candidate)) {
+                    dominated = true;
+                    break;
+                }
+            }
+            if (!dominated) {
+                front.add(candidate);
+            }
+        }
+        return front;
+    }
+
+    /**
+     * Run one scheduler per grid point in parallel on the shared, pre-sorted workload
+     * The monitor sees completed processes summed over all runs out of
+     * points x processes, and is called from the worker threads.
+     */
+    private static List<Point> sweep(ProcessTable workload, List<int[]> grid, String algorithmName,
+                                     Function<int[], PresortedScheduler> factory, ProgressMonitor monitor) {
+        for (int[] quanta : grid) {
+            for (int quantum : quanta) {
+                if (quantum <= 0) {
+                    throw new IllegalArgumentException("Time quantum must be positive: " + quantum);
+                }
+            }
+        }
+        int[] arrivalOrder = ArrivalOrder.sortedIndices(workload);
+        long total = (long) grid.size() * workload.size();
+        AtomicLongArray completedPerRun = new AtomicLongArray(grid.size());
+        AtomicLong completed = new AtomicLong();
+
+        List<Callable<Point>> tasks = new ArrayList<>();
+        for (int i = 0; i < grid.size(); i++) {
+            int run = i;
+            int[] quanta = grid.get(i);
+            PresortedScheduler scheduler = factory.apply(quanta);
+            String name = algorithmName + " (TQ=" + Arrays.stream(quanta)
+                    .mapToObj(String::valueOf).collect(Collectors.joining("/")) + ")";
+            ProgressMonitor runMonitor = new ProgressMonitor() {
+                @Override
+                public void progress(long runCompleted, long runTotal, long simulatedTime) {
+                    long sum = completed.addAndGet(runCompleted - completedPerRun.getAndSet(run, runCompleted));
+                    monitor.progress(sum, total, simulatedTime);
+                }
+
+                @Override
+                public boolean isCancelled() {
+                    return monitor.isCancelled();
+                }
+            };
+            tasks.add(() -> {
+                SchedulingResult result = scheduler.schedulePresorted(workload.withSharedInputs(), arrivalOrder, runMonitor);
+                return new Point(name, quanta, result);
+            });
+        }
+
+        List<Future<Point>> futures = ForkJoinPool.commonPool().invokeAll(tasks);
+
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                points.add(futures.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Sweep interrupted", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof CancellationException) {
+                    throw (CancellationException) e.getCause();
+                }
+                throw new IllegalStateException("Sweep point " + Arrays.toString(grid.get(i))
+                        + " failed: " + e.getCause().getMessage(), e.getCause());
+            }
+        }
+        return points;
+    }
+}
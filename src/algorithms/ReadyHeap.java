@@ -0,0 +1,96 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of process indices used as a ready queue
+ * The ordering is supplied by the scheduler, so the same heap serves
+ * shortest-remaining-time and priority selection
+ */
+final class ReadyHeap {
+
+    /**
+     * Strict ordering between two process indices
+     */
+    interface Order {
+        boolean before(int a, int b);
+    }
+
+    private final Order order;
+    private int[] heap;
+    private int size;
+
+    ReadyHeap(int capacity, Order order) {
+        this.order = order;
+        this.heap = new int[Math.max(capacity, 1)];
+        this.size = 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int peek() {
+        return heap[0];
+    }
+
+    /**
+     * Copy of the heap array, for checkpoints
+     */
+    int[] toArray() {
+        return Arrays.copyOf(heap, size);
+    }
+
+    /**
+     * Replace the contents with an array previously returned by toArray()
+     */
+    void restore(int[] contents) {
+        heap = Arrays.copyOf(contents, Math.max(heap.length, contents.length));
+        size = contents.length;
+    }
+
+    void push(int index) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        int pos = size++;
+        // Sift up
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (!order.before(index, heap[parent])) {
+                break;
+            }
+            heap[pos] = heap[parent];
+            pos = parent;
+        }
+        heap[pos] = index;
+    }
+
+    int poll() {
+        int top = heap[0];
+        int last = heap[--size];
+        if (size > 0) {
+            // Sift down
+            int pos = 0;
+            int half = size >>> 1;
+            while (pos < half) {
+                int child = 2 * pos + 1;
+                int right = child + 1;
+                if (right < size && order.before(heap[right], heap[child])) {
+                    child = right;
+                }
+                if (!order.before(heap[child], last)) {
+                    break;
+                }
+                heap[pos] = heap[child];
+                pos = child;
+            }
+            heap[pos] = last;
+        }
+        return top;
+    }
+}
@@ -0,0 +1,21 @@
+package algorithms;
+
+import models.SchedulingResult;
+
+/**
+ * Scheduler whose engine can record checkpoints and resume from them
+ * Used by IncrementalSimulation.
+ */
+interface Resumable {
+
+    /**
+     * Whether the configured engine supports checkpoints
+     * The legacy tick-by-tick engines do not.
+     */
+    boolean supportsCheckpoints();
+
+    /**
+     * Schedule checkpoints.getTable(), resuming from checkpoints.getStart() if set
+     */
+    SchedulingResult resume(Checkpoints checkpoints, ProgressMonitor monitor);
+}
@@ -1,14 +1,19 @@
 package algorithms;
 
 import models.Process;
+import models.ProcessTable;
+import models.RunStatistics;
+import models.SchedulingMetrics;
 import models.SchedulingResult;
+import trace.TraceReader;
+import java.io.IOException;
 import java.util.*;
 
 /**
  * Round Robin (RR) Scheduling Algorithm
  * Each process gets a fixed time quantum to execute
  */
-public class RoundRobinScheduler implements Scheduler {
+public class RoundRobinScheduler implements StreamingScheduler, Resumable, PresortedScheduler {
     private int timeQuantum;
 
     public RoundRobinScheduler(int timeQuantum) {
@@ -19,9 +24,18 @@ public class RoundRobinScheduler implements Scheduler {
         this.timeQuantum = 4; // Default time quantum
     }
 
+    public int getTimeQuantum() {
+        return timeQuantum;
+    }
+
     @Override
     public SchedulingResult schedule(List<Process> processes) {
-        SchedulingResult result = new SchedulingResult("Round Robin (TQ=" + timeQuantum + ")");
+        return schedule(processes, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public SchedulingResult schedule(List<Process> processes, ProgressMonitor monitor) {
+        SchedulingResult result = new SchedulingResult(getAlgorithmName());
 
         // Create copies to avoid modifying original list
         List<Process> processCopies = new ArrayList<>();
@@ -29,95 +43,207 @@ public class RoundRobinScheduler implements Scheduler {
             processCopies.add(p.copy());
         }
 
-        // Sort by arrival time
+        ProcessTable table = ProcessTable.fromProcesses(processCopies);
+        run(table, result, monitor, ArrivalOrder.sortedIndices(table), null);
+        table.copyResultsTo(processCopies);
+
+        // Report processes in arrival order
         processCopies.sort((a, b) -> Integer.compare(a.getArrivalTime(), b.getArrivalTime()));
+        result.setProcesses(processCopies);
+
+        return result;
+    }
+
+    @Override
+    public SchedulingResult schedule(ProcessTable processes) {
+        return schedule(processes, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public SchedulingResult schedule(ProcessTable processes, ProgressMonitor monitor) {
+        SchedulingResult result = new SchedulingResult(getAlgorithmName());
+        ProcessTable table = processes.copy();
+        run(table, result, monitor, ArrivalOrder.sortedIndices(table), null);
+        result.setProcessTable(table);
+        return result;
+    }
+
+    @Override
+    public SchedulingResult schedulePresorted(ProcessTable table, int[] arrivalOrder, ProgressMonitor monitor) {
+        SchedulingResult result = new SchedulingResult(getAlgorithmName());
+        run(table, result, monitor, arrivalOrder, null);
+        result.setProcessTable(table);
+        return result;
+    }
+
+    @Override
+    public boolean supportsCheckpoints() {
+        return true;
+    }
+
+    @Override
+    public SchedulingResult resume(Checkpoints checkpoints, ProgressMonitor monitor) {
+        SchedulingResult result = new SchedulingResult(getAlgorithmName());
+        run(checkpoints.getTable(), result, monitor, checkpoints.getArrivalOrder(), checkpoints);
+        result.setProcessTable(checkpoints.getTable());
+        return result;
+    }
+
+    /**
+     * Stream a trace; the ready queue holds only arrived, unfinished processes
+     */
+    @Override
+    public SchedulingResult schedule(TraceReader trace, ProgressMonitor monitor) throws IOException {
+        SchedulingResult result = new SchedulingResult(getAlgorithmName());
+        RunStatistics stats = result.getStatistics();
+        SchedulingMetrics metrics = new SchedulingMetrics();
+        ProgressTracker progress = new ProgressTracker(monitor, -1);
+        ProcessRing readyQueue = new ProcessRing(1024);
+
+        // The trace cursor sits on the next process that has not been admitted yet
+        boolean pending = trace.next();
+        long currentTime = pending ? trace.arrivalTime() : 0;
+
+        while (pending || !readyQueue.isEmpty()) {
+            // Add all processes that have arrived by current time
+            while (pending && trace.arrivalTime() <= currentTime) {
+                readyQueue.add(trace.processId(), trace.arrivalTime(), trace.burstTime(), trace.burstTime());
+                pending = trace.next();
+            }
 
-        Queue<Process> readyQueue = new LinkedList<>();
+            if (readyQueue.isEmpty()) {
+                // Jump to next arrival time
+                if (pending) {
+                    currentTime = trace.arrivalTime();
+                    readyQueue.add(trace.processId(), trace.arrivalTime(), trace.burstTime(), trace.burstTime());
+                    pending = trace.next();
+                }
+            } else {
+                stats.observeReadyQueue(readyQueue.size());
+                int pid = readyQueue.headProcessId();
+                int arrival = readyQueue.headArrivalTime();
+                int burst = readyQueue.headBurstTime();
+                int remaining = readyQueue.headRemainingTime();
+                readyQueue.removeHead();
+                stats.recordDispatch(pid);
+                progress.tick(currentTime);
+                if (remaining == burst) {
+                    // A process that has not run yet still has its whole burst left
+                    metrics.recordResponse(currentTime - arrival);
+                }
+
+                int timeToExecute = Math.min(remaining, timeQuantum);
+                currentTime += timeToExecute;
+                remaining -= timeToExecute;
+
+                // Add any newly arrived processes
+                while (pending && trace.arrivalTime() <= currentTime) {
+                    readyQueue.add(trace.processId(), trace.arrivalTime(), trace.burstTime(), trace.burstTime());
+                    pending = trace.next();
+                }
+
+                // If process is not complete, add it back to queue
+                if (remaining > 0) {
+                    readyQueue.add(pid, arrival, burst, remaining);
+                } else {
+                    metrics.recordCompletion(arrival, burst, currentTime);
+                    progress.complete();
+                }
+            }
+        }
+
+        progress.finish(currentTime);
+        metrics.applyTo(result, currentTime);
+        return result;
+    }
+
+    /**
+     * @param arrivalOrder Table rows sorted by arrival time, ties in row order
+     * @param checkpoints Checkpoint log for incremental runs, or null
+     */
+    private void run(ProcessTable table, SchedulingResult result, ProgressMonitor monitor,
+                     int[] arrivalOrder, Checkpoints checkpoints) {
+        int n = table.size();
+        int[] arrival = table.getArrivalTimes();
+        int[] remaining = table.getRemainingTimes();
+        int[] pid = table.getProcessIds();
+
+        // Ready queue holds table rows; re-enqueueing allocates nothing
+        IndexQueue readyQueue = new IndexQueue(n);
+        ProgressTracker progress = checkpoints != null
+                ? checkpoints.begin(result, monitor) : new ProgressTracker(monitor, n);
+        RunStatistics stats = result.getStatistics();
+        Checkpoint start = checkpoints != null ? checkpoints.getStart() : null;
         int currentTime = 0;
         int index = 0;
-        result.addToGanttTime(0);
-
-        // Add first arriving process
-        if (!processCopies.isEmpty()) {
-            currentTime = processCopies.get(0).getArrivalTime();
+        if (start != null) {
+            currentTime = start.time;
+            index = start.cursor;
+            readyQueue.restore(start.queues[0]);
+        } else {
+            result.addToGanttTime(0);
+
+            // Add first arriving process
+            if (n > 0) {
+                currentTime = arrival[arrivalOrder[0]];
+            }
         }
 
-        while (index < processCopies.size() || !readyQueue.isEmpty()) {
+        while (index < n || !readyQueue.isEmpty()) {
+            if (checkpoints != null && checkpoints.due(currentTime, index)
+                    && checkpoints.capture(currentTime, index, Checkpoints.NO_REGISTERS, readyQueue.toArray())) {
+                currentTime = checkpoints.getEndTime();
+                break;
+            }
+
             // Add all processes that have arrived by current time
-            while (index < processCopies.size() && processCopies.get(index).getArrivalTime() <= currentTime) {
-                readyQueue.add(processCopies.get(index));
-                index++;
+            while (index < n && arrival[arrivalOrder[index]] <= currentTime) {
+                readyQueue.add(arrivalOrder[index++]);
             }
 
             if (readyQueue.isEmpty()) {
                 // Jump to next arrival time
-                if (index < processCopies.size()) {
-                    currentTime = processCopies.get(index).getArrivalTime();
-                    readyQueue.add(processCopies.get(index));
-                    index++;
+                if (index < n) {
+                    currentTime = arrival[arrivalOrder[index]];
+                    readyQueue.add(arrivalOrder[index++]);
                 }
             } else {
-                Process p = readyQueue.poll();
-                
+                stats.observeReadyQueue(readyQueue.size());
+                int current = readyQueue.poll();
+                stats.recordDispatch(pid[current]);
+                table.start(current, currentTime);
+                progress.tick(currentTime);
+
                 // Determine how much time this process will use
-                int timeToExecute = Math.min(p.getRemainingTime(), timeQuantum);
-                
-                result.addToGanttChart(p.getProcessId());
+                int timeToExecute = Math.min(remaining[current], timeQuantum);
+
+                result.addToGanttChart(pid[current]);
                 currentTime += timeToExecute;
-                p.setRemainingTime(p.getRemainingTime() - timeToExecute);
-                
+                remaining[current] -= timeToExecute;
+
                 // Add any newly arrived processes
-                while (index < processCopies.size() && processCopies.get(index).getArrivalTime() <= currentTime) {
-                    readyQueue.add(processCopies.get(index));
-                    index++;
+                while (index < n && arrival[arrivalOrder[index]] <= currentTime) {
+                    readyQueue.add(arrivalOrder[index++]);
                 }
 
                 // If process is not complete, add it back to queue
-                if (p.getRemainingTime() > 0) {
-                    readyQueue.add(p);
+                if (remaining[current] > 0) {
+                    readyQueue.add(current);
                 } else {
-                    p.setCompletionTime(currentTime);
-                    p.setTurnaroundTime(p.getCompletionTime() - p.getArrivalTime());
-                    p.setWaitingTime(p.getTurnaroundTime() - p.getBurstTime());
+                    table.complete(current, currentTime);
+                    progress.complete();
                 }
 
                 result.addToGanttTime(currentTime);
             }
         }
+        progress.finish(currentTime);
 
-        // Remove duplicate last time entry
-        if (result.getGanttTime().size() > 0 && 
-            result.getGanttChart().size() > 0 &&
-            result.getGanttTime().size() > result.getGanttChart().size()) {
-            // This is normal for our structure
-        }
-
-        calculateMetrics(processCopies, result);
-        result.setProcesses(processCopies);
-
-        return result;
+        SchedulingMetrics.of(table).applyTo(result, result.getGanttTimeline().getEndTime());
     }
 
     @Override
     public String getAlgorithmName() {
         return "Round Robin (TQ=" + timeQuantum + ")";
     }
-
-    private void calculateMetrics(List<Process> processes, SchedulingResult result) {
-        double totalWaitingTime = 0;
-        double totalTurnaroundTime = 0;
-        int totalBurstTime = 0;
-
-        for (Process p : processes) {
-            totalWaitingTime += p.getWaitingTime();
-            totalTurnaroundTime += p.getTurnaroundTime();
-            totalBurstTime += p.getBurstTime();
-        }
-
-        result.setAverageWaitingTime(totalWaitingTime / processes.size());
-        result.setAverageTurnaroundTime(totalTurnaroundTime / processes.size());
-
-        int totalTime = result.getGanttTime().get(result.getGanttTime().size() - 1);
-        result.setCpuUtilization((double) totalBurstTime / totalTime * 100);
-    }
 }
@@ -1,24 +1,47 @@
 package algorithms;
 
 import models.Process;
+import models.ProcessTable;
+import models.RunStatistics;
+import models.SchedulingMetrics;
 import models.SchedulingResult;
 import java.util.*;
 
 /**
  * Shortest Job First (SJF) Scheduling Algorithm
  * Supports both preemptive (SRTF) and non-preemptive modes
+ * Both modes run on an event-driven engine by default; the original
+ * tick-by-tick SRTF simulation is kept for regression comparison
  */
-public class SJFScheduler implements Scheduler {
+public class SJFScheduler implements Scheduler, Resumable {
     private boolean preemptive;
+    private boolean eventDriven;
 
     public SJFScheduler(boolean preemptive) {
+        this(preemptive, true);
+    }
+
+    /**
+     * @param preemptive Use SRTF instead of non-preemptive SJF
+     * @param eventDriven Use the heap-based SRTF engine; false selects the tick-by-tick simulation
+     */
+    public SJFScheduler(boolean preemptive, boolean eventDriven) {
         this.preemptive = preemptive;
+        this.eventDriven = eventDriven;
+    }
+
+    public boolean isPreemptive() {
+        return preemptive;
     }
 
     @Override
     public SchedulingResult schedule(List<Process> processes) {
-        String algName = preemptive ? "SJF (Preemptive - SRTF)" : "SJF (Non-Preemptive)";
-        SchedulingResult result = new SchedulingResult(algName);
+        return schedule(processes, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public SchedulingResult schedule(List<Process> processes, ProgressMonitor monitor) {
+        SchedulingResult result = new SchedulingResult(getResultName());
 
         // Create copies to avoid modifying original list
         List<Process> processCopies = new ArrayList<>();
@@ -26,67 +49,160 @@ public class SJFScheduler implements Scheduler {
             processCopies.add(p.copy());
         }
 
-        if (preemptive) {
-            schedulePreemptive(processCopies, result);
+        if (preemptive && !eventDriven) {
+            schedulePreemptive(processCopies, result, monitor);
+            SchedulingMetrics.of(ProcessTable.fromProcesses(processCopies))
+                    .applyTo(result, result.getGanttTimeline().getEndTime());
         } else {
-            scheduleNonPreemptive(processCopies, result);
+            ProcessTable table = ProcessTable.fromProcesses(processCopies);
+            run(table, result, monitor, null, null);
+            table.copyResultsTo(processCopies);
         }
-
-        calculateMetrics(processCopies, result);
         result.setProcesses(processCopies);
 
         return result;
     }
 
-    private void scheduleNonPreemptive(List<Process> processes, SchedulingResult result) {
+    @Override
+    public SchedulingResult schedule(ProcessTable processes) {
+        return schedule(processes, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public SchedulingResult schedule(ProcessTable processes, ProgressMonitor monitor) {
+        if (preemptive && !eventDriven) {
+            // The tick-by-tick simulation only works on process objects
+            SchedulingResult result = schedule(processes.toProcesses(), monitor);
+            result.setProcessTable(ProcessTable.fromProcesses(result.getProcesses()));
+            return result;
+        }
+        SchedulingResult result = new SchedulingResult(getResultName());
+        ProcessTable table = processes.copy();
+        run(table, result, monitor, null, null);
+        result.setProcessTable(table);
+        return result;
+    }
+
+    /**
+     * Schedule SRTF on processes that follow an idle gap in a longer run, for PartitionedScheduler
+     * The chart is laid out as the longer run's would be after a chart with
+     * the given lead, opening with lead.openingTimes(size) copies of time 0
+     * in place of the earlier times, and resumptions are recorded in lead.
+     */
+    SchedulingResult scheduleAfterGap(ProcessTable processes, ChartLead lead, ProgressMonitor monitor) {
+        SchedulingResult result = new SchedulingResult(getResultName());
+        ProcessTable table = processes.copy();
+        for (int i = lead.openingTimes(table.size()); i > 0; i--) {
+            result.addToGanttTime(0);
+        }
+        run(table, result, monitor, null, lead);
+        result.setProcessTable(table);
+        return result;
+    }
+
+    @Override
+    public boolean supportsCheckpoints() {
+        return !preemptive || eventDriven;
+    }
+
+    @Override
+    public SchedulingResult resume(Checkpoints checkpoints, ProgressMonitor monitor) {
+        SchedulingResult result = new SchedulingResult(getResultName());
+        run(checkpoints.getTable(), result, monitor, checkpoints, null);
+        result.setProcessTable(checkpoints.getTable());
+        return result;
+    }
+
+    private String getResultName() {
+        return preemptive ? "SJF (Preemptive - SRTF)" : "SJF (Non-Preemptive)";
+    }
+
+    /**
+     * @param checkpoints Checkpoint log for incremental runs, or null
+     * @param lead Lead of the chart SRTF continues after an idle gap, or null
+     */
+    private void run(ProcessTable table, SchedulingResult result, ProgressMonitor monitor,
+                     Checkpoints checkpoints, ChartLead lead) {
+        ProgressTracker progress = checkpoints != null
+                ? checkpoints.begin(result, monitor) : new ProgressTracker(monitor, table.size());
+        if (preemptive) {
+            schedulePreemptiveEventDriven(table, result, progress, checkpoints, lead);
+        } else {
+            scheduleNonPreemptive(table, result, progress, checkpoints);
+        }
+        SchedulingMetrics.of(table).applyTo(result, result.getGanttTimeline().getEndTime());
+    }
+
+    /**
+     * Ready processes are kept in a min-heap on (burst time, row); when the
+     * CPU is idle the earliest arrival runs next
+     */
+    private void scheduleNonPreemptive(ProcessTable table, SchedulingResult result, ProgressTracker progress,
+                                       Checkpoints checkpoints) {
+        int n = table.size();
+        int[] arrival = table.getArrivalTimes();
+        int[] burst = table.getBurstTimes();
+        int[] pid = table.getProcessIds();
+        int[] arrivalOrder = checkpoints != null ? checkpoints.getArrivalOrder() : ArrivalOrder.sortedIndices(table);
+        ReadyHeap ready = new ReadyHeap(n, (a, b) ->
+                burst[a] < burst[b] || (burst[a] == burst[b] && a < b));
+        RunStatistics stats = result.getStatistics();
+        Checkpoint start = checkpoints != null ? checkpoints.getStart() : null;
+
         int currentTime = 0;
-        boolean[] completed = new boolean[processes.size()];
-        result.addToGanttTime(0);
+        int next = 0;
+        int first = 0;
+        if (start != null) {
+            currentTime = start.time;
+            next = start.cursor;
+            first = start.registers[0];
+            ready.restore(start.queues[0]);
+        } else {
+            result.addToGanttTime(0);
+        }
 
-        for (int i = 0; i < processes.size(); i++) {
-            int shortest = -1;
-            int minBurst = Integer.MAX_VALUE;
-
-            // Find process with shortest burst time among arrived processes
-            for (int j = 0; j < processes.size(); j++) {
-                if (!completed[j] && processes.get(j).getArrivalTime() <= currentTime) {
-                    if (processes.get(j).getBurstTime() < minBurst) {
-                        minBurst = processes.get(j).getBurstTime();
-                        shortest = j;
-                    }
-                }
+        for (int i = first; i < n; i++) {
+            if (checkpoints != null && checkpoints.due(currentTime, next)
+                    && checkpoints.capture(currentTime, next, new int[] {i}, ready.toArray())) {
+                currentTime = checkpoints.getEndTime();
+                break;
             }
 
-            // If no process has arrived, get the next arriving process
-            if (shortest == -1) {
-                int minArrival = Integer.MAX_VALUE;
-                for (int j = 0; j < processes.size(); j++) {
-                    if (!completed[j] && processes.get(j).getArrivalTime() < minArrival) {
-                        minArrival = processes.get(j).getArrivalTime();
-                        shortest = j;
-                    }
-                }
-                currentTime = processes.get(shortest).getArrivalTime();
+            // Admit everything that has arrived by now
+            while (next < n && arrival[arrivalOrder[next]] <= currentTime) {
+                ready.push(arrivalOrder[next++]);
+            }
+
+            int shortest;
+            if (ready.isEmpty()) {
+                // If no process has arrived, run the next arriving process
+                shortest = arrivalOrder[next++];
+                currentTime = arrival[shortest];
+                stats.observeReadyQueue(1);
+            } else {
+                stats.observeReadyQueue(ready.size());
+                shortest = ready.poll();
             }
+            stats.recordDispatch(pid[shortest]);
+            table.start(shortest, currentTime);
+            progress.tick(currentTime);
 
             // Execute the process
-            Process p = processes.get(shortest);
-            result.addToGanttChart(p.getProcessId());
-            currentTime += p.getBurstTime();
+            result.addToGanttChart(pid[shortest]);
+            currentTime += burst[shortest];
             result.addToGanttTime(currentTime);
-
-            p.setCompletionTime(currentTime);
-            p.setTurnaroundTime(p.getCompletionTime() - p.getArrivalTime());
-            p.setWaitingTime(p.getTurnaroundTime() - p.getBurstTime());
-            
-            completed[shortest] = true;
+            table.complete(shortest, currentTime);
+            progress.complete();
         }
+        progress.finish(currentTime);
     }
 
-    private void schedulePreemptive(List<Process> processes, SchedulingResult result) {
+    private void schedulePreemptive(List<Process> processes, SchedulingResult result, ProgressMonitor monitor) {
+        RunStatistics stats = result.getStatistics();
         int currentTime = 0;
         int completed = 0;
         int n = processes.size();
+        ProgressTracker progress = new ProgressTracker(monitor, n);
         boolean[] isCompleted = new boolean[n];
         result.addToGanttTime(0);
 
@@ -94,9 +210,11 @@ public class SJFScheduler implements Scheduler {
             // Find process with shortest remaining time
             int shortest = -1;
             int minRemaining = Integer.MAX_VALUE;
+            int readyCount = 0;
 
             for (int i = 0; i < n; i++) {
                 if (!isCompleted[i] && processes.get(i).getArrivalTime() <= currentTime) {
+                    readyCount++;
                     if (processes.get(i).getRemainingTime() < minRemaining) {
                         minRemaining = processes.get(i).getRemainingTime();
                         shortest = i;
@@ -119,7 +237,13 @@ public class SJFScheduler implements Scheduler {
 
             // Execute for 1 time unit
             Process p = processes.get(shortest);
-            
+            stats.observeReadyQueue(readyCount);
+            stats.recordDispatch(p.getProcessId());
+            progress.tick(currentTime);
+            if (p.getStartTime() < 0) {
+                p.setStartTime(currentTime);
+            }
+
             if (p.getRemainingTime() == p.getBurstTime()) {
                 result.addToGanttChart(p.getProcessId());
             }
@@ -134,6 +258,7 @@ public class SJFScheduler implements Scheduler {
                 p.setWaitingTime(p.getTurnaroundTime() - p.getBurstTime());
                 isCompleted[shortest] = true;
                 completed++;
+                progress.complete();
             } else if (result.getGanttChart().isEmpty() || 
                        result.getGanttChart().get(result.getGanttChart().size() - 1) != p.getProcessId()) {
                 // Gantt chart was updated, add time if needed
@@ -146,28 +271,119 @@ public class SJFScheduler implements Scheduler {
         if (result.getGanttTime().size() == result.getGanttChart().size()) {
             result.addToGanttTime(currentTime);
         }
+        progress.finish(currentTime);
     }
 
-    @Override
-    public String getAlgorithmName() {
-        return preemptive ? "SJF (Preemptive)" : "SJF (Non-Preemptive)";
-    }
+    /**
+     * Event-driven SRTF: arrivals are admitted through a sorted cursor and the
+     * ready set is a min-heap on (remaining time, row), so time jumps
+     * straight to the next arrival or completion. O(n log n) overall.
+     * Produces exactly the same Gantt entries and metrics as schedulePreemptive.
+     */
+    private void schedulePreemptiveEventDriven(ProcessTable table, SchedulingResult result,
+                                               ProgressTracker progress, Checkpoints checkpoints, ChartLead lead) {
+        int n = table.size();
+        int[] arrival = table.getArrivalTimes();
+        int[] burst = table.getBurstTimes();
+        int[] remaining = table.getRemainingTimes();
+        int[] arrivalOrder = checkpoints != null ? checkpoints.getArrivalOrder() : ArrivalOrder.sortedIndices(table);
+        ReadyHeap ready = new ReadyHeap(n, (a, b) ->
+                remaining[a] < remaining[b] || (remaining[a] == remaining[b] && a < b));
+        RunStatistics stats = result.getStatistics();
+        Checkpoint start = checkpoints != null ? checkpoints.getStart() : null;
 
-    private void calculateMetrics(List<Process> processes, SchedulingResult result) {
-        double totalWaitingTime = 0;
-        double totalTurnaroundTime = 0;
-        int totalBurstTime = 0;
+        int currentTime = 0;
+        int next = 0;
+        int chartSize = 0;
+        int timeSize = 1;
+        int lastChartId = -1;
+        if (start != null) {
+            // Only the comparisons between the two counts matter, so they are checkpointed relative
+            currentTime = start.time;
+            next = start.cursor;
+            chartSize = start.registers[0];
+            timeSize = chartSize + start.registers[1];
+            lastChartId = start.registers[2];
+            ready.restore(start.queues[0]);
+        } else if (lead != null) {
+            // The ready queue is empty after a gap; only the chart's lead carries over
+            timeSize = lead.getStart();
+        } else {
+            result.addToGanttTime(0);
+        }
+        int started = 0;
 
-        for (Process p : processes) {
-            totalWaitingTime += p.getWaitingTime();
-            totalTurnaroundTime += p.getTurnaroundTime();
-            totalBurstTime += p.getBurstTime();
+        while (next < n || !ready.isEmpty()) {
+            if (checkpoints != null && checkpoints.due(currentTime, next)
+                    && checkpoints.capture(currentTime, next,
+                            new int[] {Math.min(chartSize, 1), timeSize - chartSize, lastChartId}, ready.toArray())) {
+                progress.finish(checkpoints.getEndTime());
+                return;
+            }
+
+            // Admit everything that has arrived by now
+            while (next < n && arrival[arrivalOrder[next]] <= currentTime) {
+                ready.push(arrivalOrder[next++]);
+            }
+
+            // If no process has arrived, jump to next arrival
+            if (ready.isEmpty()) {
+                currentTime = arrival[arrivalOrder[next]];
+                continue;
+            }
+
+            stats.observeReadyQueue(ready.size());
+            int current = ready.poll();
+            int pid = table.getProcessIds()[current];
+            stats.recordDispatch(pid);
+            table.start(current, currentTime);
+            progress.tick(currentTime);
+
+            // Run until completion or the next arrival, whichever comes first
+            int runUntil = currentTime + remaining[current];
+            if (next < n && arrival[arrivalOrder[next]] < runUntil) {
+                runUntil = arrival[arrivalOrder[next]];
+            }
+
+            // Replay the Gantt bookkeeping the tick-based loop performs on the first tick of a run
+            if (remaining[current] == burst[current]) {
+                result.addToGanttChart(pid);
+                chartSize++;
+                lastChartId = pid;
+                started++;
+            }
+            if (remaining[current] > 1 && (chartSize == 0 || lastChartId != pid)) {
+                if (lead != null) {
+                    lead.resumed(started);
+                }
+                if (timeSize == chartSize) {
+                    result.addToGanttTime(currentTime + 1);
+                    timeSize++;
+                }
+            }
+
+            remaining[current] -= runUntil - currentTime;
+            currentTime = runUntil;
+
+            if (remaining[current] == 0) {
+                result.addToGanttTime(currentTime);
+                timeSize++;
+                started--;
+                table.complete(current, currentTime);
+                progress.complete();
+            } else {
+                ready.push(current);
+            }
         }
 
-        result.setAverageWaitingTime(totalWaitingTime / processes.size());
-        result.setAverageTurnaroundTime(totalTurnaroundTime / processes.size());
+        if (timeSize == chartSize) {
+            result.addToGanttTime(currentTime);
+        }
+        progress.finish(currentTime);
+    }
 
-        int totalTime = result.getGanttTime().get(result.getGanttTime().size() - 1);
-        result.setCpuUtilization((double) totalBurstTime / totalTime * 100);
+    @Override
+    public String getAlgorithmName() {
+        return preemptive ? "SJF (Preemptive)" : "SJF (Non-Preemptive)";
     }
 }
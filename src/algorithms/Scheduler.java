@@ -1,8 +1,10 @@
 package algorithms;
 
 import models.Process;
+import models.ProcessTable;
 import models.SchedulingResult;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 
 /**
  * Base interface for all scheduling algorithms
@@ -15,6 +17,45 @@ public interface Scheduler {
      */
     SchedulingResult schedule(List<Process> processes);
 
+    /**
+     * Schedule with progress reports and cooperative cancellation
+     * Built-in schedulers report every few thousand dispatches; the default
+     * only reports before and after the run and cannot stop it midway.
+     * @throws CancellationException If the monitor asks to cancel
+     */
+    default SchedulingResult schedule(List<Process> processes, ProgressMonitor monitor) {
+        new ProgressTracker(monitor, processes.size()).report(0);
+        SchedulingResult result = schedule(processes);
+        monitor.progress(processes.size(), processes.size(), result.getGanttTimeline().getEndTime());
+        return result;
+    }
+
+    /**
+     * Schedule processes held in columnar form
+     * The table is not modified; the result carries a scheduled copy.
+     * Implementations override this to run directly on the columns; the
+     * default converts to process objects and back.
+     * @param processes Table of processes to schedule
+     * @return SchedulingResult containing execution details
+     */
+    default SchedulingResult schedule(ProcessTable processes) {
+        SchedulingResult result = schedule(processes.toProcesses());
+        result.setProcessTable(ProcessTable.fromProcesses(result.getProcesses()));
+        return result;
+    }
+
+    /**
+     * Schedule a table with progress reports and cooperative cancellation
+     * @throws CancellationException If the monitor asks to cancel
+     * @see #schedule(List, ProgressMonitor)
+     */
+    default SchedulingResult schedule(ProcessTable processes, ProgressMonitor monitor) {
+        new ProgressTracker(monitor, processes.size()).report(0);
+        SchedulingResult result = schedule(processes);
+        monitor.progress(processes.size(), processes.size(), result.getGanttTimeline().getEndTime());
+        return result;
+    }
+
     /**
      * Get the name of the scheduling algorithm
      * @return Algorithm name
@@ -0,0 +1,25 @@
+package algorithms;
+
+import models.SchedulingResult;
+import trace.TraceReader;
+import java.io.IOException;
+
+/**
+ * Scheduler that can consume an arrival-sorted trace in a single pass
+ * Only processes that have arrived and not yet completed are held in memory,
+ * so traces larger than the heap can be simulated. The result carries the
+ * averages, CPU utilization and RunStatistics but no per-process rows or
+ * Gantt chart.
+ */
+public interface StreamingScheduler extends Scheduler {
+
+    default SchedulingResult schedule(TraceReader trace) throws IOException {
+        return schedule(trace, ProgressMonitor.NONE);
+    }
+
+    /**
+     * Stream a trace with progress reports (total is -1) and cooperative cancellation
+     * @throws java.util.concurrent.CancellationException If the monitor asks to cancel
+     */
+    SchedulingResult schedule(TraceReader trace, ProgressMonitor monitor) throws IOException;
+}
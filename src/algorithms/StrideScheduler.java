@@ -0,0 +1,162 @@
+package algorithms;
+
+import models.Process;
+import models.ProcessTable;
+import models.RunStatistics;
+import models.SchedulingMetrics;
+import models.SchedulingResult;
+import java.util.*;
+
+/**
+ * Stride Scheduling Algorithm
+ * The deterministic counterpart of lottery scheduling: each process has a
+ * stride inversely proportional to its tickets (see LotteryScheduler.ticketsOf)
+ * and a pass value that grows by one stride per quantum it runs. The ready
+ * process with the lowest pass runs next, ties in queue order, so CPU time
+ * is shared in proportion to tickets without random error. Ready processes
+ * are a binary heap on pass, so each dispatch is O(log n). A process joins
+ * one stride after the pass of the last dispatch, so it cannot claim the CPU
+ * time it was not waiting for.
+ */
+public class StrideScheduler implements Scheduler {
+    /** Numerator of the strides; large enough that the heaviest ticket count still gets a stride of about 48k, so rounding skews shares by under 0.01% */
+    public static final long STRIDE1 = 1L << 32;
+
+    private final int timeQuantum;
+
+    public StrideScheduler() {
+        this(4);
+    }
+
+    public StrideScheduler(int timeQuantum) {
+        if (timeQuantum <= 0) {
+            throw new IllegalArgumentException("Time quantum must be positive: " + timeQuantum);
+        }
+        this.timeQuantum = timeQuantum;
+    }
+
+    public int getTimeQuantum() {
+        return timeQuantum;
+    }
+
+    @Override
+    public SchedulingResult schedule(List<Process> processes) {
+        return schedule(processes, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public SchedulingResult schedule(List<Process> processes, ProgressMonitor monitor) {
+        SchedulingResult result = new SchedulingResult(getAlgorithmName());
+
+        // Create copies to avoid modifying original list
+        List<Process> processCopies = new ArrayList<>();
+        for (Process p : processes) {
+            processCopies.add(p.copy());
+        }
+
+        ProcessTable table = ProcessTable.fromProcesses(processCopies);
+        run(table, result, monitor);
+        table.copyResultsTo(processCopies);
+
+        // Report processes in arrival order
+        processCopies.sort((a, b) -> Integer.compare(a.getArrivalTime(), b.getArrivalTime()));
+        result.setProcesses(processCopies);
+
+        return result;
+    }
+
+    @Override
+    public SchedulingResult schedule(ProcessTable processes) {
+        return schedule(processes, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public SchedulingResult schedule(ProcessTable processes, ProgressMonitor monitor) {
+        SchedulingResult result = new SchedulingResult(getAlgorithmName());
+        ProcessTable table = processes.copy();
+        run(table, result, monitor);
+        result.setProcessTable(table);
+        return result;
+    }
+
+    private void run(ProcessTable table, SchedulingResult result, ProgressMonitor monitor) {
+        int n = table.size();
+        int[] arrival = table.getArrivalTimes();
+        int[] remaining = table.getRemainingTimes();
+        int[] priority = table.getPriorities();
+        int[] pid = table.getProcessIds();
+        int[] arrivalOrder = ArrivalOrder.sortedIndices(table);
+
+        long[] pass = new long[n];
+        long[] queued = new long[n];
+        ReadyHeap ready = new ReadyHeap(n, (a, b) -> pass[a] != pass[b] ? pass[a] < pass[b] : queued[a] < queued[b]);
+        long lastPass = 0;
+        long sequence = 0;
+
+        ProgressTracker progress = new ProgressTracker(monitor, n);
+        RunStatistics stats = result.getStatistics();
+        result.addToGanttTime(0);
+
+        int currentTime = n > 0 ? arrival[arrivalOrder[0]] : 0;
+        int index = 0;
+
+        while (index < n || !ready.isEmpty()) {
+            // New processes start one stride after the last dispatch
+            while (index < n && arrival[arrivalOrder[index]] <= currentTime) {
+                int row = arrivalOrder[index++];
+                pass[row] = lastPass + stride(priority[row]);
+                queued[row] = sequence++;
+                ready.push(row);
+            }
+
+            if (ready.isEmpty()) {
+                // No process ready, jump to next arrival
+                currentTime = arrival[arrivalOrder[index]];
+                continue;
+            }
+
+            stats.observeReadyQueue(ready.size());
+            int current = ready.poll();
+            lastPass = pass[current];
+            stats.recordDispatch(pid[current]);
+            table.start(current, currentTime);
+            progress.tick(currentTime);
+
+            int timeToExecute = Math.min(remaining[current], timeQuantum);
+            result.addToGanttChart(pid[current]);
+            currentTime += timeToExecute;
+            remaining[current] -= timeToExecute;
+
+            // Add newly arrived processes before the preempted one rejoins
+            while (index < n && arrival[arrivalOrder[index]] <= currentTime) {
+                int row = arrivalOrder[index++];
+                pass[row] = lastPass + stride(priority[row]);
+                queued[row] = sequence++;
+                ready.push(row);
+            }
+
+            if (remaining[current] > 0) {
+                pass[current] += stride(priority[current]);
+                queued[current] = sequence++;
+                ready.push(current);
+            } else {
+                table.complete(current, currentTime);
+                progress.complete();
+            }
+
+            result.addToGanttTime(currentTime);
+        }
+        progress.finish(currentTime);
+
+        SchedulingMetrics.of(table).applyTo(result, result.getGanttTimeline().getEndTime());
+    }
+
+    private static long stride(int priority) {
+        return STRIDE1 / LotteryScheduler.ticketsOf(priority);
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Stride (TQ=" + timeQuantum + ")";
+    }
+}
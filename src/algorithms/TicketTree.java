@@ -0,0 +1,55 @@
+package algorithms;
+
+/**
+ * Fenwick tree of per-row ticket counts for lottery draws
+ * Setting a row's tickets and finding the row holding a given ticket both
+ * walk one path of the tree, so a draw among n rows takes O(log n) instead
+ * of a linear walk over the ticket counts.
+ */
+final class TicketTree {
+    private final long[] tree;
+    private final long[] tickets;
+    private final int topBit;
+    private long total;
+
+    /**
+     * @param rows Rows that can hold tickets, 0 to rows - 1, all starting with none
+     */
+    TicketTree(int rows) {
+        this.tree = new long[rows + 1];
+        this.tickets = new long[rows];
+        this.topBit = rows == 0 ? 0 : Integer.highestOneBit(rows);
+    }
+
+    long total() {
+        return total;
+    }
+
+    /**
+     * Give a row a new ticket count, 0 to take it out of the draw
+     */
+    void set(int row, long count) {
+        long delta = count - tickets[row];
+        tickets[row] = count;
+        total += delta;
+        for (int i = row + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Row holding the winning ticket, numbering tickets from 0 in row order
+     * @param ticket 0 to total() - 1
+     */
+    int find(long ticket) {
+        int pos = 0;
+        for (int bit = topBit; bit != 0; bit >>>= 1) {
+            int next = pos + bit;
+            if (next < tree.length && tree[next] <= ticket) {
+                pos = next;
+                ticket -= tree[next];
+            }
+        }
+        return pos;
+    }
+}
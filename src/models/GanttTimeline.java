@@ -0,0 +1,234 @@
+package models;
+
+import java.util.*;
+
+/**
+ * Compact Gantt chart storage
+ * Process IDs and boundary times are kept in growable int arrays, and a
+ * slice that continues the previous slice's process is merged into it,
+ * so long Round Robin runs store one entry per context switch.
+ *
+ * Layout matches the chart/time lists it replaces: time(0) is the chart
+ * start and slice i runs from time(i) to time(i + 1).
+ */
+public class GanttTimeline {
+    /** Process ID of a slice in which the CPU ran nothing (multiprocessor lanes) */
+    public static final int IDLE = -1;
+
+    private int[] processIds;
+    private int sliceCount;
+    private int[] times;
+    private int timeCount;
+
+    public GanttTimeline() {
+        this.processIds = new int[16];
+        this.times = new int[16];
+        this.sliceCount = 0;
+        this.timeCount = 0;
+    }
+
+    /**
+     * Start a slice for the given process
+     * If the previous slice belongs to the same process and has been closed,
+     * it is reopened instead, so the next time extends it.
+     */
+    public void addProcess(int processId) {
+        if (sliceCount > 0 && processIds[sliceCount - 1] == processId && timeCount == sliceCount + 1) {
+            timeCount--;
+            return;
+        }
+        if (sliceCount == processIds.length) {
+            processIds = Arrays.copyOf(processIds, sliceCount * 2);
+        }
+        processIds[sliceCount++] = processId;
+    }
+
+    /**
+     * Create an independent copy of the first sliceCount slices and timeCount times
+     */
+    public GanttTimeline prefix(int sliceCount, int timeCount) {
+        GanttTimeline copy = new GanttTimeline();
+        copy.processIds = Arrays.copyOf(processIds, Math.max(sliceCount, 16));
+        copy.times = Arrays.copyOf(times, Math.max(timeCount, 16));
+        copy.sliceCount = sliceCount;
+        copy.timeCount = timeCount;
+        return copy;
+    }
+
+    /**
+     * Drop everything after the first sliceCount slices and timeCount times
+     */
+    public void truncate(int sliceCount, int timeCount) {
+        this.sliceCount = sliceCount;
+        this.timeCount = timeCount;
+    }
+
+    /**
+     * Make room for at least this many slices and times, before appending large timelines
+     */
+    public void ensureCapacity(int slices, int timeEntries) {
+        if (processIds.length < slices) {
+            processIds = Arrays.copyOf(processIds, slices);
+        }
+        if (times.length < timeEntries) {
+            times = Arrays.copyOf(times, timeEntries);
+        }
+    }
+
+    /**
+     * Append another timeline's slices from fromSlice and times from fromTime, as stored
+     * No merging is done at the join.
+     */
+    public void append(GanttTimeline other, int fromSlice, int fromTime) {
+        int slices = other.sliceCount - fromSlice;
+        int timeEntries = other.timeCount - fromTime;
+        processIds = Arrays.copyOf(processIds, Math.max(processIds.length, sliceCount + slices));
+        times = Arrays.copyOf(times, Math.max(times.length, timeCount + timeEntries));
+        System.arraycopy(other.processIds, fromSlice, processIds, sliceCount, slices);
+        System.arraycopy(other.times, fromTime, times, timeCount, timeEntries);
+        sliceCount += slices;
+        timeCount += timeEntries;
+    }
+
+    /**
+     * Record a boundary time (the chart start, or the end of the open slice)
+     */
+    public void addTime(int time) {
+        if (timeCount == times.length) {
+            times = Arrays.copyOf(times, timeCount * 2);
+        }
+        times[timeCount++] = time;
+    }
+
+    public int getSliceCount() {
+        return sliceCount;
+    }
+
+    public int getProcessId(int slice) {
+        return processIds[slice];
+    }
+
+    public int getTimeCount() {
+        return timeCount;
+    }
+
+    public int getTime(int index) {
+        return times[index];
+    }
+
+    public boolean isEmpty() {
+        return sliceCount == 0;
+    }
+
+    /**
+     * Get the number of slices that have both a start and an end time
+     */
+    public int getCompleteSliceCount() {
+        return Math.max(0, Math.min(sliceCount, timeCount - 1));
+    }
+
+    /**
+     * Find the complete slice running at the given time by binary search
+     * Times before the chart map to slice 0 and times after it to the last slice.
+     * @return Slice index, or -1 if there are no complete slices
+     */
+    public int findSlice(double time) {
+        int low = 0;
+        int high = getCompleteSliceCount() - 1;
+        if (high < 0) {
+            return -1;
+        }
+        // Last slice whose start time is <= time
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (times[mid] <= time) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Get the last recorded time, or 0 if there is none
+     */
+    public int getEndTime() {
+        return timeCount == 0 ? 0 : times[timeCount - 1];
+    }
+
+    /**
+     * Get a cursor over the complete slices (those with both a start and an end time)
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Read-only boxed view of the process IDs, for callers that need a List
+     */
+    public List<Integer> processIdView() {
+        return new AbstractList<Integer>() {
+            @Override
+            public Integer get(int index) {
+                Objects.checkIndex(index, sliceCount);
+                return processIds[index];
+            }
+
+            @Override
+            public int size() {
+                return sliceCount;
+            }
+        };
+    }
+
+    /**
+     * Read-only boxed view of the boundary times, for callers that need a List
+     */
+    public List<Integer> timeView() {
+        return new AbstractList<Integer>() {
+            @Override
+            public Integer get(int index) {
+                Objects.checkIndex(index, timeCount);
+                return times[index];
+            }
+
+            @Override
+            public int size() {
+                return timeCount;
+            }
+        };
+    }
+
+    /**
+     * Streams slices without boxing
+     * Call next() before reading the first slice.
+     */
+    public class Cursor {
+        private int slice = -1;
+
+        public boolean next() {
+            if (slice + 1 < sliceCount && slice + 2 < timeCount) {
+                slice++;
+                return true;
+            }
+            return false;
+        }
+
+        public int slice() {
+            return slice;
+        }
+
+        public int processId() {
+            return processIds[slice];
+        }
+
+        public int startTime() {
+            return times[slice];
+        }
+
+        public int endTime() {
+            return times[slice + 1];
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package models;
+
+import java.util.*;
+
+/**
+ * Bounded-memory histogram of non-negative values with about 1% precision
+ * Log-linear buckets in the style of HdrHistogram: values below 256 are
+ * counted exactly, larger ones in buckets whose width is under 1/128 of
+ * their value. Covering the whole long range takes fewer than 7,300 buckets,
+ * allocated only as far as the largest value recorded.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 8;
+    private static final int HALF_BUCKETS = 1 << (SUB_BUCKET_BITS - 1);
+
+    private long[] counts = new long[2 * HALF_BUCKETS];
+    private long count;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    /**
+     * Count one value; negative values are counted as 0
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        int index = indexOf(v);
+        if (index >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(index + 1, counts.length + counts.length / 2));
+        }
+        counts[index]++;
+        count++;
+        min = Math.min(min, v);
+        max = Math.max(max, v);
+    }
+
+    /**
+     * Add every value counted by another histogram
+     */
+    public void add(LatencyHistogram other) {
+        if (other.counts.length > counts.length) {
+            counts = Arrays.copyOf(counts, other.counts.length);
+        }
+        for (int i = 0; i < other.counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Smallest value recorded, or 0 if empty
+     */
+    public long getMin() {
+        return count > 0 ? min : 0;
+    }
+
+    /**
+     * Largest value recorded, or 0 if empty
+     */
+    public long getMax() {
+        return count > 0 ? max : 0;
+    }
+
+    /**
+     * Value at or below which the given percentage of values fall
+     * Reports the top of the bucket holding that rank, clamped to the recorded
+     * range, so the result is never below the true percentile.
+     * @param percentile Between 0 and 100, e.g. 99.9
+     * @return 0 if empty
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(max, highestValueIn(i)));
+            }
+        }
+        return max;
+    }
+
+    private static int indexOf(long value) {
+        int shift = Math.max(0, 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        return shift * HALF_BUCKETS + (int) (value >>> shift);
+    }
+
+    private static long highestValueIn(int index) {
+        if (index < 2 * HALF_BUCKETS) {
+            return index;
+        }
+        int shift = index / HALF_BUCKETS - 1;
+        long top = index - (long) shift * HALF_BUCKETS;
+        return ((top + 1) << shift) - 1;
+    }
+}
@@ -12,6 +12,7 @@ public class Process implements Comparable<Process> {
     private int waitingTime;
     private int turnaroundTime;
     private int remainingTime;
+    private int startTime;  // First dispatch, -1 until the process has run
     private int queue; // For multilevel queue scheduling
 
     public Process(int processId, int arrivalTime, int burstTime) {
@@ -20,6 +21,7 @@ public class Process implements Comparable<Process> {
         this.burstTime = burstTime;
         this.priority = 0;
         this.remainingTime = burstTime;
+        this.startTime = -1;
         this.queue = 0;
     }
 
@@ -81,6 +83,21 @@ public class Process implements Comparable<Process> {
         this.remainingTime = remainingTime;
     }
 
+    public int getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(int startTime) {
+        this.startTime = startTime;
+    }
+
+    /**
+     * Time from arrival to first dispatch, or -1 if the process has not run
+     */
+    public int getResponseTime() {
+        return startTime < 0 ? -1 : startTime - arrivalTime;
+    }
+
     public int getQueue() {
         return queue;
     }
@@ -100,8 +117,8 @@ public class Process implements Comparable<Process> {
     }
 
     public String getDetailedInfo() {
-        return String.format("P%d | Arrival: %d | Burst: %d | Priority: %d | WT: %d | TAT: %d",
-                processId, arrivalTime, burstTime, priority, waitingTime, turnaroundTime);
+        return String.format("P%d | Arrival: %d | Burst: %d | Priority: %d | WT: %d | TAT: %d | RT: %d",
+                processId, arrivalTime, burstTime, priority, waitingTime, turnaroundTime, getResponseTime());
     }
 
     // Create a copy of the process for independent scheduling
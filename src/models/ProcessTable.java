@@ -0,0 +1,278 @@
+package models;
+
+import java.util.*;
+
+/**
+ * Columnar (struct-of-arrays) store of processes
+ * Each attribute lives in its own int array indexed by row, so large
+ * workloads need no per-process objects and copying a table is a handful
+ * of array clones
+ */
+public class ProcessTable {
+    private int size;
+    private int[] processIds;
+    private int[] arrivalTimes;
+    private int[] burstTimes;
+    private int[] priorities;
+    private int[] remainingTimes;
+    private int[] completionTimes;
+    private int[] waitingTimes;
+    private int[] turnaroundTimes;
+    private int[] startTimes;       // first dispatch, -1 until the process has run
+
+    public ProcessTable(int capacity) {
+        int length = Math.max(capacity, 1);
+        this.size = 0;
+        this.processIds = new int[length];
+        this.arrivalTimes = new int[length];
+        this.burstTimes = new int[length];
+        this.priorities = new int[length];
+        this.remainingTimes = new int[length];
+        this.completionTimes = new int[length];
+        this.waitingTimes = new int[length];
+        this.turnaroundTimes = new int[length];
+        this.startTimes = new int[length];
+    }
+
+    private ProcessTable(ProcessTable other) {
+        this.size = other.size;
+        this.processIds = Arrays.copyOf(other.processIds, Math.max(other.size, 1));
+        this.arrivalTimes = Arrays.copyOf(other.arrivalTimes, Math.max(other.size, 1));
+        this.burstTimes = Arrays.copyOf(other.burstTimes, Math.max(other.size, 1));
+        this.priorities = Arrays.copyOf(other.priorities, Math.max(other.size, 1));
+        this.remainingTimes = Arrays.copyOf(other.remainingTimes, Math.max(other.size, 1));
+        this.completionTimes = Arrays.copyOf(other.completionTimes, Math.max(other.size, 1));
+        this.waitingTimes = Arrays.copyOf(other.waitingTimes, Math.max(other.size, 1));
+        this.turnaroundTimes = Arrays.copyOf(other.turnaroundTimes, Math.max(other.size, 1));
+        this.startTimes = Arrays.copyOf(other.startTimes, Math.max(other.size, 1));
+    }
+
+    private ProcessTable(ProcessTable inputs, int length) {
+        this.size = inputs.size;
+        this.processIds = inputs.processIds;
+        this.arrivalTimes = inputs.arrivalTimes;
+        this.burstTimes = inputs.burstTimes;
+        this.priorities = inputs.priorities;
+        this.remainingTimes = Arrays.copyOf(inputs.burstTimes, length);
+        this.completionTimes = new int[length];
+        this.waitingTimes = new int[length];
+        this.turnaroundTimes = new int[length];
+        this.startTimes = new int[length];
+        Arrays.fill(startTimes, -1);
+    }
+
+    /**
+     * Build a table from process objects, one row per process in list order
+     */
+    public static ProcessTable fromProcesses(List<Process> processes) {
+        ProcessTable table = new ProcessTable(processes.size());
+        for (Process p : processes) {
+            int row = table.add(p.getProcessId(), p.getArrivalTime(), p.getBurstTime(), p.getPriority());
+            table.remainingTimes[row] = p.getRemainingTime();
+            table.completionTimes[row] = p.getCompletionTime();
+            table.waitingTimes[row] = p.getWaitingTime();
+            table.turnaroundTimes[row] = p.getTurnaroundTime();
+            table.startTimes[row] = p.getStartTime();
+        }
+        return table;
+    }
+
+    /**
+     * Append a new process; remaining time starts at the burst time
+     * @return Row index of the new process
+     */
+    public int add(int processId, int arrivalTime, int burstTime, int priority) {
+        if (size == processIds.length) {
+            grow();
+        }
+        int row = size++;
+        processIds[row] = processId;
+        arrivalTimes[row] = arrivalTime;
+        burstTimes[row] = burstTime;
+        priorities[row] = priority;
+        remainingTimes[row] = burstTime;
+        completionTimes[row] = 0;
+        waitingTimes[row] = 0;
+        turnaroundTimes[row] = 0;
+        startTimes[row] = -1;
+        return row;
+    }
+
+    private void grow() {
+        int length = processIds.length * 2;
+        processIds = Arrays.copyOf(processIds, length);
+        arrivalTimes = Arrays.copyOf(arrivalTimes, length);
+        burstTimes = Arrays.copyOf(burstTimes, length);
+        priorities = Arrays.copyOf(priorities, length);
+        remainingTimes = Arrays.copyOf(remainingTimes, length);
+        completionTimes = Arrays.copyOf(completionTimes, length);
+        waitingTimes = Arrays.copyOf(waitingTimes, length);
+        turnaroundTimes = Arrays.copyOf(turnaroundTimes, length);
+        startTimes = Arrays.copyOf(startTimes, length);
+    }
+
+    /**
+     * Replace a row's inputs and clear its scheduling results
+     */
+    public void set(int row, int processId, int arrivalTime, int burstTime, int priority) {
+        processIds[row] = processId;
+        arrivalTimes[row] = arrivalTime;
+        burstTimes[row] = burstTime;
+        priorities[row] = priority;
+        resetResults(row);
+    }
+
+    /**
+     * Return a row to its unscheduled state: full remaining time, no results
+     */
+    public void resetResults(int row) {
+        remainingTimes[row] = burstTimes[row];
+        completionTimes[row] = 0;
+        waitingTimes[row] = 0;
+        turnaroundTimes[row] = 0;
+        startTimes[row] = -1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Create an independent copy for scheduling (array clones only)
+     */
+    public ProcessTable copy() {
+        return new ProcessTable(this);
+    }
+
+    /**
+     * Create an unscheduled table that shares this table's input columns
+     * Only the result columns are allocated, so many runs over one workload
+     * cost no input copies. The process ids, arrival, burst and priority
+     * arrays are then shared and must not be modified while either table is in use.
+     */
+    public ProcessTable withSharedInputs() {
+        return new ProcessTable(this, Math.max(size, 1));
+    }
+
+    /**
+     * Create an independent table of the given rows, in the given order, with all their columns
+     */
+    public ProcessTable select(int[] rows) {
+        ProcessTable part = new ProcessTable(rows.length);
+        for (int i = 0; i < rows.length; i++) {
+            int row = rows[i];
+            part.processIds[i] = processIds[row];
+            part.arrivalTimes[i] = arrivalTimes[row];
+            part.burstTimes[i] = burstTimes[row];
+            part.priorities[i] = priorities[row];
+            part.remainingTimes[i] = remainingTimes[row];
+            part.completionTimes[i] = completionTimes[row];
+            part.waitingTimes[i] = waitingTimes[row];
+            part.turnaroundTimes[i] = turnaroundTimes[row];
+            part.startTimes[i] = startTimes[row];
+        }
+        part.size = rows.length;
+        return part;
+    }
+
+    /**
+     * Copy the result columns of a table made by select() back onto the rows it was selected from
+     */
+    public void copyResultsFrom(ProcessTable part, int[] rows) {
+        for (int i = 0; i < rows.length; i++) {
+            int row = rows[i];
+            remainingTimes[row] = part.remainingTimes[i];
+            completionTimes[row] = part.completionTimes[i];
+            waitingTimes[row] = part.waitingTimes[i];
+            turnaroundTimes[row] = part.turnaroundTimes[i];
+            startTimes[row] = part.startTimes[i];
+        }
+    }
+
+    // Column access: arrays are live and may be longer than size()
+    public int[] getProcessIds() {
+        return processIds;
+    }
+
+    public int[] getArrivalTimes() {
+        return arrivalTimes;
+    }
+
+    public int[] getBurstTimes() {
+        return burstTimes;
+    }
+
+    public int[] getPriorities() {
+        return priorities;
+    }
+
+    public int[] getRemainingTimes() {
+        return remainingTimes;
+    }
+
+    public int[] getCompletionTimes() {
+        return completionTimes;
+    }
+
+    public int[] getWaitingTimes() {
+        return waitingTimes;
+    }
+
+    public int[] getTurnaroundTimes() {
+        return turnaroundTimes;
+    }
+
+    /**
+     * First dispatch time of each row, -1 for rows that have not run
+     */
+    public int[] getStartTimes() {
+        return startTimes;
+    }
+
+    /**
+     * Record a dispatch of a row; only the first one sets its start time
+     */
+    public void start(int row, int time) {
+        if (startTimes[row] < 0) {
+            startTimes[row] = time;
+        }
+    }
+
+    /**
+     * Record completion of a row and derive its turnaround and waiting time
+     * A row completed without ever being dispatched (zero burst) starts when it completes.
+     */
+    public void complete(int row, int completionTime) {
+        start(row, completionTime);
+        remainingTimes[row] = 0;
+        completionTimes[row] = completionTime;
+        turnaroundTimes[row] = completionTime - arrivalTimes[row];
+        waitingTimes[row] = turnaroundTimes[row] - burstTimes[row];
+    }
+
+    /**
+     * Copy the runtime columns back onto processes that share this table's row order
+     */
+    public void copyResultsTo(List<Process> processes) {
+        for (int row = 0; row < size; row++) {
+            Process p = processes.get(row);
+            p.setRemainingTime(remainingTimes[row]);
+            p.setCompletionTime(completionTimes[row]);
+            p.setWaitingTime(waitingTimes[row]);
+            p.setTurnaroundTime(turnaroundTimes[row]);
+            p.setStartTime(startTimes[row]);
+        }
+    }
+
+    /**
+     * Materialize the table as process objects, one per row
+     */
+    public List<Process> toProcesses() {
+        List<Process> processes = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            processes.add(new Process(processIds[row], arrivalTimes[row], burstTimes[row], priorities[row]));
+        }
+        copyResultsTo(processes);
+        return processes;
+    }
+}
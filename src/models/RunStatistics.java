@@ -0,0 +1,253 @@
+package models;
+
+/**
+ * Performance counters for one scheduling run
+ * Schedulers record dispatch decisions and ready-queue length as they run;
+ * timing and allocation are filled in by algorithms.InstrumentedScheduler.
+ * Values that were not measured are -1.
+ */
+public class RunStatistics {
+    private long wallTimeNanos;
+    private long cpuTimeNanos;
+    private long allocatedBytes;
+    private long dispatches;
+    private long contextSwitches;
+    private int peakReadyQueue;
+    private long migrations;
+    private int firstDispatchedId;
+    private int lastDispatchedId;
+    private boolean dispatched;
+    private boolean parallel;
+    private boolean readyQueueUnmeasured;
+
+    public RunStatistics() {
+        this.wallTimeNanos = -1;
+        this.cpuTimeNanos = -1;
+        this.allocatedBytes = -1;
+    }
+
+    /**
+     * Record a scheduling decision that gives the CPU to the given process
+     * Dispatching a different process than the previous decision counts as a context switch.
+     */
+    public void recordDispatch(int processId) {
+        if (dispatched && processId != lastDispatchedId) {
+            contextSwitches++;
+        }
+        if (!dispatched) {
+            firstDispatchedId = processId;
+        }
+        dispatches++;
+        lastDispatchedId = processId;
+        dispatched = true;
+    }
+
+    /**
+     * Record a dispatch on one of several CPUs
+     * @param contextSwitch Whether the CPU last ran a different process
+     */
+    public void recordDispatch(int processId, boolean contextSwitch) {
+        if (contextSwitch) {
+            contextSwitches++;
+        }
+        if (!dispatched) {
+            firstDispatchedId = processId;
+        }
+        dispatches++;
+        lastDispatchedId = processId;
+        dispatched = true;
+    }
+
+    /**
+     * Record a process resuming on a different CPU than it last ran on
+     */
+    public void recordMigration() {
+        migrations++;
+    }
+
+    /**
+     * Record the current number of ready processes
+     */
+    public void observeReadyQueue(int length) {
+        if (length > peakReadyQueue) {
+            peakReadyQueue = length;
+        }
+    }
+
+    /**
+     * Record that the engine never materialised its ready queue, so there is no peak to report
+     */
+    public void markReadyQueueUnmeasured() {
+        readyQueueUnmeasured = true;
+    }
+
+    /**
+     * Record that part of the run was done on worker threads
+     * The calling thread's CPU time and allocation then miss that work, so
+     * InstrumentedScheduler leaves them unmeasured.
+     */
+    public void markParallel() {
+        parallel = true;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Copy of the counters, for checkpointing a run
+     */
+    public RunStatistics copy() {
+        RunStatistics copy = new RunStatistics();
+        copy.wallTimeNanos = wallTimeNanos;
+        copy.cpuTimeNanos = cpuTimeNanos;
+        copy.allocatedBytes = allocatedBytes;
+        copy.dispatches = dispatches;
+        copy.contextSwitches = contextSwitches;
+        copy.peakReadyQueue = peakReadyQueue;
+        copy.migrations = migrations;
+        copy.firstDispatchedId = firstDispatchedId;
+        copy.lastDispatchedId = lastDispatchedId;
+        copy.dispatched = dispatched;
+        copy.parallel = parallel;
+        copy.readyQueueUnmeasured = readyQueueUnmeasured;
+        return copy;
+    }
+
+    /**
+     * Add the dispatch counters another run recorded between two of its checkpoints
+     * Used when this run has reached the same scheduler state as start, so
+     * it continues exactly like the other run did up to end. Returns false
+     * and changes nothing if the last dispatched process differs from start,
+     * or if the peak ready-queue length cannot be determined from the snapshots.
+     */
+    public boolean append(RunStatistics start, RunStatistics end) {
+        if (dispatched != start.dispatched || (dispatched && lastDispatchedId != start.lastDispatchedId)) {
+            return false;
+        }
+        // The snapshots only show the segment's peak if it raised the overall peak
+        int peak;
+        if (end.peakReadyQueue > start.peakReadyQueue) {
+            peak = Math.max(peakReadyQueue, end.peakReadyQueue);
+        } else if (peakReadyQueue >= start.peakReadyQueue) {
+            peak = peakReadyQueue;
+        } else {
+            return false;
+        }
+        if (!dispatched) {
+            firstDispatchedId = end.firstDispatchedId;
+        }
+        dispatches += end.dispatches - start.dispatches;
+        contextSwitches += end.contextSwitches - start.contextSwitches;
+        peakReadyQueue = peak;
+        lastDispatchedId = end.lastDispatchedId;
+        dispatched = end.dispatched;
+        return true;
+    }
+
+    /**
+     * Add the counters of a run that continued this one on the same CPU
+     * Its first dispatch counts as a context switch if it gives the CPU to
+     * a different process than this run's last one.
+     */
+    public void concat(RunStatistics next) {
+        parallel |= next.parallel;
+        readyQueueUnmeasured |= next.readyQueueUnmeasured;
+        if (!next.dispatched) {
+            peakReadyQueue = Math.max(peakReadyQueue, next.peakReadyQueue);
+            return;
+        }
+        if (dispatched && next.firstDispatchedId != lastDispatchedId) {
+            contextSwitches++;
+        }
+        if (!dispatched) {
+            firstDispatchedId = next.firstDispatchedId;
+        }
+        dispatches += next.dispatches;
+        contextSwitches += next.contextSwitches;
+        peakReadyQueue = Math.max(peakReadyQueue, next.peakReadyQueue);
+        migrations += next.migrations;
+        lastDispatchedId = next.lastDispatchedId;
+        dispatched = true;
+    }
+
+    public long getWallTimeNanos() {
+        return wallTimeNanos;
+    }
+
+    public void setWallTimeNanos(long wallTimeNanos) {
+        this.wallTimeNanos = wallTimeNanos;
+    }
+
+    public long getCpuTimeNanos() {
+        return cpuTimeNanos;
+    }
+
+    public void setCpuTimeNanos(long cpuTimeNanos) {
+        this.cpuTimeNanos = cpuTimeNanos;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public void setAllocatedBytes(long allocatedBytes) {
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public long getDispatches() {
+        return dispatches;
+    }
+
+    public long getContextSwitches() {
+        return contextSwitches;
+    }
+
+    /**
+     * Get the number of CPU migrations (multiprocessor runs only)
+     */
+    public long getMigrations() {
+        return migrations;
+    }
+
+    /**
+     * Get the longest ready queue observed, or -1 if the engine did not track it
+     */
+    public int getPeakReadyQueue() {
+        return readyQueueUnmeasured ? -1 : peakReadyQueue;
+    }
+
+    public double getWallTimeMillis() {
+        return wallTimeNanos < 0 ? -1 : wallTimeNanos / 1_000_000.0;
+    }
+
+    public double getCpuTimeMillis() {
+        return cpuTimeNanos < 0 ? -1 : cpuTimeNanos / 1_000_000.0;
+    }
+
+    public double getAllocatedMegabytes() {
+        return allocatedBytes < 0 ? -1 : allocatedBytes / (1024.0 * 1024.0);
+    }
+
+    @Override
+    public String toString() {
+        String text = String.format("Wall: %s ms | CPU: %s ms | Alloc: %s MB | Dispatches: %d | Context Switches: %d | Peak Ready: %s",
+                format(getWallTimeMillis()), format(getCpuTimeMillis()), format(getAllocatedMegabytes()),
+                dispatches, contextSwitches, format(getPeakReadyQueue()));
+        return migrations > 0 ? text + String.format(" | Migrations: %d", migrations) : text;
+    }
+
+    /**
+     * Format a measured count, or "-" if it was not measured
+     */
+    public static String format(long value) {
+        return value < 0 ? "-" : String.valueOf(value);
+    }
+
+    /**
+     * Format a measured value to two decimals, or "-" if it was not measured
+     */
+    public static String format(double value) {
+        return value < 0 ? "-" : String.format("%.2f", value);
+    }
+}
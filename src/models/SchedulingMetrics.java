@@ -0,0 +1,196 @@
+package models;
+
+import java.util.stream.IntStream;
+
+/**
+ * Per-process metrics of a scheduling run, shared by every scheduler
+ * For each completed process it records waiting time, response time (first
+ * dispatch minus arrival), turnaround time and bounded slowdown, keeping
+ * exact sums for the averages and a LatencyHistogram of each for tail
+ * percentiles. Memory does not grow with the number of processes, so the
+ * streaming schedulers feed it one completion at a time.
+ */
+public class SchedulingMetrics {
+    /**
+     * Bounded slowdown divides turnaround by max(burst, this), so very short
+     * jobs do not dominate the average
+     */
+    public static final int SLOWDOWN_THRESHOLD = 10;
+    private static final int SLOWDOWN_SCALE = 100;   // slowdowns are histogrammed in hundredths
+
+    private final LatencyHistogram waitingTimes = new LatencyHistogram();
+    private final LatencyHistogram responseTimes = new LatencyHistogram();
+    private final LatencyHistogram turnaroundTimes = new LatencyHistogram();
+    private final LatencyHistogram slowdowns = new LatencyHistogram();
+    private long completed;
+    private long totalWaitingTime;
+    private long totalResponseTime;
+    private long responses;
+    private long totalTurnaroundTime;
+    private long totalBurstTime;
+    private double totalSlowdown;
+
+    /**
+     * Metrics of every row of a scheduled table, in row order
+     */
+    public static SchedulingMetrics of(ProcessTable table) {
+        return of(table, 0, table.size());
+    }
+
+    /**
+     * Metrics of every row of a scheduled table, recorded in parallel blocks of rows
+     * Gives the same result as of(table).
+     */
+    public static SchedulingMetrics of(ProcessTable table, int blocks) {
+        int n = table.size();
+        int blockSize = (n - 1) / Math.max(blocks, 1) + 1;
+        SchedulingMetrics[] parts = new SchedulingMetrics[n == 0 ? 0 : (n - 1) / blockSize + 1];
+        IntStream.range(0, parts.length).parallel().forEach(b ->
+                parts[b] = of(table, b * blockSize, (int) Math.min(n, (long) b * blockSize + blockSize)));
+        SchedulingMetrics metrics = new SchedulingMetrics();
+        for (SchedulingMetrics part : parts) {
+            metrics.add(part);
+        }
+
+        // Floating-point sums depend on order, so slowdowns are added again one row at a time
+        int[] arrival = table.getArrivalTimes();
+        int[] burst = table.getBurstTimes();
+        int[] completion = table.getCompletionTimes();
+        double totalSlowdown = 0;
+        for (int row = 0; row < n; row++) {
+            totalSlowdown += slowdown(completion[row] - (long) arrival[row], burst[row]);
+        }
+        metrics.totalSlowdown = totalSlowdown;
+        return metrics;
+    }
+
+    private static SchedulingMetrics of(ProcessTable table, int from, int to) {
+        SchedulingMetrics metrics = new SchedulingMetrics();
+        int[] arrival = table.getArrivalTimes();
+        int[] burst = table.getBurstTimes();
+        int[] start = table.getStartTimes();
+        int[] completion = table.getCompletionTimes();
+        for (int row = from; row < to; row++) {
+            // Rows never dispatched (zero burst in some legacy loops) respond when they complete
+            metrics.recordResponse((start[row] >= 0 ? start[row] : completion[row]) - arrival[row]);
+            metrics.recordCompletion(arrival[row], burst[row], completion[row]);
+        }
+        return metrics;
+    }
+
+    /**
+     * Record a process's first dispatch
+     * Streaming schedulers call this when a process runs for the first time,
+     * so they need not remember when each queued process started.
+     */
+    public void recordResponse(long responseTime) {
+        responses++;
+        totalResponseTime += responseTime;
+        responseTimes.record(responseTime);
+    }
+
+    /**
+     * Record a finished process
+     */
+    public void recordCompletion(long arrivalTime, long burstTime, long completionTime) {
+        long turnaround = completionTime - arrivalTime;
+        long waiting = turnaround - burstTime;
+        double slowdown = slowdown(turnaround, burstTime);
+        completed++;
+        totalWaitingTime += waiting;
+        totalTurnaroundTime += turnaround;
+        totalBurstTime += burstTime;
+        totalSlowdown += slowdown;
+        waitingTimes.record(waiting);
+        turnaroundTimes.record(turnaround);
+        slowdowns.record(Math.round(slowdown * SLOWDOWN_SCALE));
+    }
+
+    private static double slowdown(long turnaround, long burstTime) {
+        return Math.max(1.0, (double) turnaround / Math.max(burstTime, SLOWDOWN_THRESHOLD));
+    }
+
+    /**
+     * Add the processes recorded by another instance
+     */
+    public void add(SchedulingMetrics other) {
+        waitingTimes.add(other.waitingTimes);
+        responseTimes.add(other.responseTimes);
+        turnaroundTimes.add(other.turnaroundTimes);
+        slowdowns.add(other.slowdowns);
+        completed += other.completed;
+        totalWaitingTime += other.totalWaitingTime;
+        totalResponseTime += other.totalResponseTime;
+        responses += other.responses;
+        totalTurnaroundTime += other.totalTurnaroundTime;
+        totalBurstTime += other.totalBurstTime;
+        totalSlowdown += other.totalSlowdown;
+    }
+
+    /**
+     * Store the averages and CPU utilization on the result, and attach these metrics
+     * @param endTime Time the last process completed
+     */
+    public void applyTo(SchedulingResult result, long endTime) {
+        result.setMetrics(this);
+        if (completed == 0) {
+            return;
+        }
+        result.setAverageWaitingTime(getAverageWaitingTime());
+        result.setAverageTurnaroundTime(getAverageTurnaroundTime());
+        if (endTime > 0) {
+            result.setCpuUtilization((double) totalBurstTime / endTime * 100);
+        }
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public double getAverageWaitingTime() {
+        return (double) totalWaitingTime / completed;
+    }
+
+    public double getAverageTurnaroundTime() {
+        return (double) totalTurnaroundTime / completed;
+    }
+
+    public double getAverageResponseTime() {
+        return (double) totalResponseTime / responses;
+    }
+
+    public double getAverageSlowdown() {
+        return totalSlowdown / completed;
+    }
+
+    /**
+     * @param percentile Between 0 and 100, e.g. 99.9
+     */
+    public long getWaitingTimePercentile(double percentile) {
+        return waitingTimes.getValueAtPercentile(percentile);
+    }
+
+    public long getResponseTimePercentile(double percentile) {
+        return responseTimes.getValueAtPercentile(percentile);
+    }
+
+    public long getTurnaroundTimePercentile(double percentile) {
+        return turnaroundTimes.getValueAtPercentile(percentile);
+    }
+
+    public double getSlowdownPercentile(double percentile) {
+        return (double) slowdowns.getValueAtPercentile(percentile) / SLOWDOWN_SCALE;
+    }
+
+    public LatencyHistogram getWaitingTimes() {
+        return waitingTimes;
+    }
+
+    public LatencyHistogram getResponseTimes() {
+        return responseTimes;
+    }
+
+    public LatencyHistogram getTurnaroundTimes() {
+        return turnaroundTimes;
+    }
+}
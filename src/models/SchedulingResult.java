@@ -8,26 +8,38 @@ import java.util.*;
 public class SchedulingResult {
     private String algorithmName;
     private List<Process> processes;
-    private List<Integer> ganttChart;
-    private List<Integer> ganttTime;
+    private ProcessTable processTable;
+    private GanttTimeline gantt;
+    private GanttTimeline[] cpuTimelines;   // null for single-CPU runs
+    private double[] cpuUtilizations;
     private double averageWaitingTime;
     private double averageTurnaroundTime;
     private double cpuUtilization;
     private long executionTime;
+    private RunStatistics statistics;
+    private SchedulingMetrics metrics;
 
     public SchedulingResult(String algorithmName) {
         this.algorithmName = algorithmName;
         this.processes = new ArrayList<>();
-        this.ganttChart = new ArrayList<>();
-        this.ganttTime = new ArrayList<>();
+        this.gantt = new GanttTimeline();
         this.executionTime = 0;
+        this.statistics = new RunStatistics();
+        this.metrics = new SchedulingMetrics();
     }
 
     public String getAlgorithmName() {
         return algorithmName;
     }
 
+    /**
+     * Get the scheduled processes; results produced from a ProcessTable
+     * are materialized as process objects on first access
+     */
     public List<Process> getProcesses() {
+        if (processes.isEmpty() && processTable != null && processTable.size() > 0) {
+            processes = processTable.toProcesses();
+        }
         return processes;
     }
 
@@ -35,20 +47,79 @@ public class SchedulingResult {
         this.processes = processes;
     }
 
+    /**
+     * Get the columnar process data, or null if the run was list-based
+     */
+    public ProcessTable getProcessTable() {
+        return processTable;
+    }
+
+    public void setProcessTable(ProcessTable processTable) {
+        this.processTable = processTable;
+    }
+
+    /**
+     * Get the run-length compressed Gantt chart
+     */
+    public GanttTimeline getGanttTimeline() {
+        return gantt;
+    }
+
+    /**
+     * Read-only boxed view of the Gantt process IDs
+     */
     public List<Integer> getGanttChart() {
-        return ganttChart;
+        return gantt.processIdView();
+    }
+
+    public void setGanttTimeline(GanttTimeline gantt) {
+        this.gantt = gantt;
+    }
+
+    /**
+     * Get the number of simulated CPUs
+     */
+    public int getCpuCount() {
+        return cpuTimelines == null ? 1 : cpuTimelines.length;
+    }
+
+    /**
+     * Get the Gantt lane of one CPU; for single-CPU runs this is the main timeline
+     */
+    public GanttTimeline getCpuTimeline(int cpu) {
+        return cpuTimelines == null ? gantt : cpuTimelines[cpu];
+    }
+
+    /**
+     * Get the utilization of one CPU in percent
+     */
+    public double getCpuUtilization(int cpu) {
+        return cpuUtilizations == null ? cpuUtilization : cpuUtilizations[cpu];
+    }
+
+    /**
+     * Set per-CPU lanes and utilizations for a multiprocessor run
+     * The main Gantt timeline becomes the lane of CPU 0.
+     */
+    public void setCpuLanes(GanttTimeline[] timelines, double[] utilizations) {
+        this.cpuTimelines = timelines;
+        this.cpuUtilizations = utilizations;
+        this.gantt = timelines[0];
     }
 
     public void addToGanttChart(int processId) {
-        this.ganttChart.add(processId);
+        this.gantt.addProcess(processId);
     }
 
+    /**
+     * Read-only boxed view of the Gantt boundary times
+     */
     public List<Integer> getGanttTime() {
-        return ganttTime;
+        return gantt.timeView();
     }
 
     public void addToGanttTime(int time) {
-        this.ganttTime.add(time);
+        this.gantt.addTime(time);
     }
 
     public double getAverageWaitingTime() {
@@ -75,6 +146,9 @@ public class SchedulingResult {
         this.cpuUtilization = cpuUtilization;
     }
 
+    /**
+     * Get the wall-clock time of the scheduling run in nanoseconds (0 if not measured)
+     */
     public long getExecutionTime() {
         return executionTime;
     }
@@ -83,6 +157,28 @@ public class SchedulingResult {
         this.executionTime = executionTime;
     }
 
+    public void setStatistics(RunStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Get the performance counters recorded for this run
+     */
+    public RunStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Get the per-process metrics: response time, slowdown and tail percentiles
+     */
+    public SchedulingMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(SchedulingMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     @Override
     public String toString() {
         return String.format(
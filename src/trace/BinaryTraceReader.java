@@ -0,0 +1,105 @@
+package trace;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Streams processes from a binary trace through memory-mapped NIO
+ * Format (big-endian): a 16-byte header of magic "PPTR", int version and
+ * long record count, then one 16-byte record per process of int process ID,
+ * arrival time, burst time and priority, sorted by arrival time.
+ * Write files with BinaryTraceWriter.
+ */
+public class BinaryTraceReader implements TraceReader {
+    static final int MAGIC = 0x50505452; // "PPTR"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int RECORD_BYTES = 16;
+
+    private final MappedInput input;
+    private final long recordCount;
+    private long recordsRead;
+
+    private int processId;
+    private int arrivalTime;
+    private int burstTime;
+    private int priority;
+
+    public BinaryTraceReader(Path path) throws IOException {
+        this.input = new MappedInput(path);
+        try {
+            if (input.length() < HEADER_BYTES || input.readInt() != MAGIC) {
+                throw new IOException("Not a ProcessPilot binary trace: " + path);
+            }
+            int version = input.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported binary trace version " + version + ": " + path);
+            }
+            this.recordCount = input.readLong();
+            if (recordCount < 0 || input.length() != HEADER_BYTES + recordCount * RECORD_BYTES) {
+                throw new IOException("Binary trace is truncated or corrupt: " + path);
+            }
+        } catch (IOException e) {
+            input.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Total number of records in the file
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        if (recordsRead == recordCount) {
+            return false;
+        }
+        int previousArrival = arrivalTime;
+        processId = input.readInt();
+        arrivalTime = input.readInt();
+        burstTime = input.readInt();
+        priority = input.readInt();
+        if (arrivalTime < 0 || burstTime < 0) {
+            throw new IOException("Trace record " + (recordsRead + 1) + ": arrival and burst times must not be negative");
+        }
+        if (recordsRead > 0 && arrivalTime < previousArrival) {
+            throw new IOException("Trace record " + (recordsRead + 1) + ": arrival time " + arrivalTime
+                    + " is before previous arrival " + previousArrival + "; traces must be sorted by arrival time");
+        }
+        recordsRead++;
+        return true;
+    }
+
+    @Override
+    public int processId() {
+        return processId;
+    }
+
+    @Override
+    public int arrivalTime() {
+        return arrivalTime;
+    }
+
+    @Override
+    public int burstTime() {
+        return burstTime;
+    }
+
+    @Override
+    public int priority() {
+        return priority;
+    }
+
+    @Override
+    public long recordsRead() {
+        return recordsRead;
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+}
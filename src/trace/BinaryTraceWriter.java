@@ -0,0 +1,75 @@
+package trace;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes the binary trace format read by BinaryTraceReader
+ * Records are buffered and the record count in the header is filled in on close.
+ */
+public class BinaryTraceWriter implements Closeable {
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long recordCount;
+
+    public BinaryTraceWriter(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+        buffer.putInt(BinaryTraceReader.MAGIC);
+        buffer.putInt(BinaryTraceReader.VERSION);
+        buffer.putLong(0);
+    }
+
+    /**
+     * Append one process; records must be written in arrival order
+     */
+    public void write(int processId, int arrivalTime, int burstTime, int priority) throws IOException {
+        if (buffer.remaining() < BinaryTraceReader.RECORD_BYTES) {
+            flush();
+        }
+        buffer.putInt(processId);
+        buffer.putInt(arrivalTime);
+        buffer.putInt(burstTime);
+        buffer.putInt(priority);
+        recordCount++;
+    }
+
+    /**
+     * Copy every record of a trace (e.g. a CSV file) into a binary trace
+     * @return Number of records written
+     */
+    public static long convert(TraceReader source, Path target) throws IOException {
+        try (BinaryTraceWriter writer = new BinaryTraceWriter(target)) {
+            while (source.next()) {
+                writer.write(source.processId(), source.arrivalTime(), source.burstTime(), source.priority());
+            }
+            return writer.recordCount;
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            ByteBuffer count = ByteBuffer.allocate(Long.BYTES).putLong(0, recordCount);
+            channel.write(count, 8);
+        } finally {
+            channel.close();
+        }
+    }
+}
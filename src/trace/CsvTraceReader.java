@@ -0,0 +1,187 @@
+package trace;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Streams processes from a CSV trace
+ * One process per line: {@code processId,arrivalTime,burstTime[,priority]}
+ * (priority defaults to 0). Lines must be sorted by arrival time. Blank lines
+ * and lines starting with '#' are skipped, and a non-numeric first line is
+ * treated as a header. Lines are parsed straight from the mapped file into a
+ * reused buffer, so reading allocates nothing per record.
+ */
+public class CsvTraceReader implements TraceReader {
+    private final MappedInput input;
+    private byte[] line = new byte[128];
+    private int lineLength;
+    private int position;
+    private long lineNumber;
+    private long recordsRead;
+    private boolean headerChecked;
+
+    private int processId;
+    private int arrivalTime;
+    private int burstTime;
+    private int priority;
+
+    public CsvTraceReader(Path path) throws IOException {
+        this.input = new MappedInput(path);
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        while (readLine()) {
+            trimLine();
+            if (lineLength == 0 || line[0] == '#') {
+                continue;
+            }
+            if (!headerChecked) {
+                headerChecked = true;
+                if (!isNumberStart(line[0])) {
+                    continue;
+                }
+            }
+
+            int previousArrival = arrivalTime;
+            position = 0;
+            processId = parseField("process ID");
+            arrivalTime = parseField("arrival time");
+            burstTime = parseField("burst time");
+            priority = position < lineLength ? parseField("priority") : 0;
+            if (position < lineLength) {
+                throw error("too many fields");
+            }
+            if (arrivalTime < 0 || burstTime < 0) {
+                throw error("arrival and burst times must not be negative");
+            }
+            if (recordsRead > 0 && arrivalTime < previousArrival) {
+                throw error("arrival time " + arrivalTime + " is before previous arrival "
+                        + previousArrival + "; traces must be sorted by arrival time");
+            }
+            recordsRead++;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int processId() {
+        return processId;
+    }
+
+    @Override
+    public int arrivalTime() {
+        return arrivalTime;
+    }
+
+    @Override
+    public int burstTime() {
+        return burstTime;
+    }
+
+    @Override
+    public int priority() {
+        return priority;
+    }
+
+    @Override
+    public long recordsRead() {
+        return recordsRead;
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+    /**
+     * Read the next line (without its terminator) into the line buffer
+     * @return false at end of file
+     */
+    private boolean readLine() throws IOException {
+        lineLength = 0;
+        int b = input.read();
+        if (b < 0) {
+            return false;
+        }
+        lineNumber++;
+        while (b >= 0 && b != '\n') {
+            if (lineLength == line.length) {
+                line = Arrays.copyOf(line, line.length * 2);
+            }
+            line[lineLength++] = (byte) b;
+            b = input.read();
+        }
+        return true;
+    }
+
+    private void trimLine() {
+        while (lineLength > 0 && isSpace(line[lineLength - 1])) {
+            lineLength--;
+        }
+        int start = 0;
+        while (start < lineLength && isSpace(line[start])) {
+            start++;
+        }
+        if (start > 0) {
+            System.arraycopy(line, start, line, 0, lineLength - start);
+            lineLength -= start;
+        }
+    }
+
+    /**
+     * Parse one integer field and consume the comma after it
+     */
+    private int parseField(String name) throws IOException {
+        skipSpaces();
+        boolean negative = false;
+        if (position < lineLength && (line[position] == '-' || line[position] == '+')) {
+            negative = line[position] == '-';
+            position++;
+        }
+        int digitsStart = position;
+        long value = 0;
+        while (position < lineLength && line[position] >= '0' && line[position] <= '9') {
+            value = value * 10 + (line[position++] - '0');
+            if (value > Integer.MAX_VALUE + 1L) {
+                throw error(name + " is out of range");
+            }
+        }
+        if (position == digitsStart) {
+            throw error("missing or invalid " + name);
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw error(name + " is out of range");
+        }
+
+        skipSpaces();
+        if (position < lineLength) {
+            if (line[position] != ',') {
+                throw error("invalid " + name);
+            }
+            position++;
+        }
+        return (int) value;
+    }
+
+    private void skipSpaces() {
+        while (position < lineLength && isSpace(line[position])) {
+            position++;
+        }
+    }
+
+    private IOException error(String message) {
+        return new IOException("Trace line " + lineNumber + ": " + message);
+    }
+
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    private static boolean isNumberStart(byte b) {
+        return (b >= '0' && b <= '9') || b == '-' || b == '+';
+    }
+}
@@ -0,0 +1,85 @@
+package trace;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sequential reader over a memory-mapped file
+ * The file is mapped in fixed-size windows, so files larger than 2 GB (the
+ * limit of a single mapping) are read in one pass without copying into the heap
+ */
+final class MappedInput implements Closeable {
+    private static final int WINDOW_SIZE = 64 << 20;
+
+    private final FileChannel channel;
+    private final long length;
+    private long windowStart;
+    private MappedByteBuffer window;
+
+    MappedInput(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.length = channel.size();
+        this.windowStart = 0;
+        this.window = map(0);
+    }
+
+    long length() {
+        return length;
+    }
+
+    /**
+     * @return Next byte (0-255), or -1 at end of file
+     */
+    int read() throws IOException {
+        if (!window.hasRemaining() && !advance()) {
+            return -1;
+        }
+        return window.get() & 0xFF;
+    }
+
+    /**
+     * Read a big-endian int, which may straddle two windows
+     */
+    int readInt() throws IOException {
+        if (window.remaining() >= Integer.BYTES) {
+            return window.getInt();
+        }
+        int value = 0;
+        for (int i = 0; i < Integer.BYTES; i++) {
+            int b = read();
+            if (b < 0) {
+                throw new EOFException("Unexpected end of trace file");
+            }
+            value = (value << 8) | b;
+        }
+        return value;
+    }
+
+    long readLong() throws IOException {
+        return ((long) readInt() << 32) | (readInt() & 0xFFFFFFFFL);
+    }
+
+    private boolean advance() throws IOException {
+        long next = windowStart + window.capacity();
+        if (next >= length) {
+            return false;
+        }
+        windowStart = next;
+        window = map(next);
+        return true;
+    }
+
+    private MappedByteBuffer map(long start) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(WINDOW_SIZE, length - start));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,58 @@
+package trace;
+
+import models.ProcessTable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Sequential cursor over a process trace sorted by arrival time
+ * Records are read one at a time without allocating, so a trace can be far
+ * larger than the heap. Call next() to advance, then read the current
+ * record's fields.
+ */
+public interface TraceReader extends Closeable {
+
+    /**
+     * Advance to the next record
+     * @return false at the end of the trace
+     * @throws IOException If the trace is malformed or not sorted by arrival time
+     */
+    boolean next() throws IOException;
+
+    int processId();
+
+    int arrivalTime();
+
+    int burstTime();
+
+    int priority();
+
+    /**
+     * Number of records read so far
+     */
+    long recordsRead();
+
+    /**
+     * Open a trace file: ".csv" files are read as CSV, anything else as the binary format
+     */
+    static TraceReader open(Path path) throws IOException {
+        if (path.getFileName().toString().toLowerCase().endsWith(".csv")) {
+            return new CsvTraceReader(path);
+        }
+        return new BinaryTraceReader(path);
+    }
+
+    /**
+     * Read a whole trace into memory for the non-streaming schedulers
+     */
+    static ProcessTable load(Path path) throws IOException {
+        try (TraceReader reader = open(path)) {
+            ProcessTable table = new ProcessTable(1024);
+            while (reader.next()) {
+                table.add(reader.processId(), reader.arrivalTime(), reader.burstTime(), reader.priority());
+            }
+            return table;
+        }
+    }
+}
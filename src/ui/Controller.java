@@ -1,6 +1,6 @@
 package ui;
 
-import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyStringWrapper;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -13,9 +13,11 @@ import javafx.scene.layout.VBox;
 import javafx.geometry.Insets;
 
 import models.Process;
+import models.ProcessTable;
+import models.SchedulingMetrics;
 import models.SchedulingResult;
 import algorithms.*;
-import visualization.GanttChart;
+import utils.ComparisonRunner;
 import utils.ProcessGenerator;
 import utils.SchedulingComparator;
 
@@ -57,13 +59,27 @@ public class Controller {
     @FXML
     private Spinner<Integer> timeQuantumSpinner;
     @FXML
+    private Spinner<Integer> cpuCountSpinner;
+    @FXML
+    private ComboBox<String> runQueueCombo;
+    @FXML
     private Button runSchedulerButton;
     @FXML
     private ProgressBar schedulingProgress;
+    @FXML
+    private Label schedulingProgressLabel;
+    @FXML
+    private Button cancelSchedulerButton;
+    @FXML
+    private CheckBox autoRunCheckBox;
 
     // Results Tab
     @FXML
-    private TextArea ganttChartArea;
+    private GanttCanvas ganttCanvas;
+    @FXML
+    private Label cpuLaneLabel;
+    @FXML
+    private ComboBox<String> cpuLaneCombo;
     @FXML
     private Label avgWaitingTimeLabel;
     @FXML
@@ -71,19 +87,33 @@ public class Controller {
     @FXML
     private Label cpuUtilLabel;
     @FXML
-    private TableView<ProcessResult> resultsTableView;
+    private Label runStatsLabel;
+    @FXML
+    private TableView<Integer> resultsTableView;
+    @FXML
+    private TableColumn<Integer, String> resultPidColumn;
+    @FXML
+    private TableColumn<Integer, String> resultArrivalColumn;
+    @FXML
+    private TableColumn<Integer, String> resultBurstColumn;
+    @FXML
+    private TableColumn<Integer, String> resultCompletionColumn;
     @FXML
-    private TableColumn<ProcessResult, String> resultPidColumn;
+    private TableColumn<Integer, String> resultWaitingColumn;
     @FXML
-    private TableColumn<ProcessResult, String> resultArrivalColumn;
+    private TableColumn<Integer, String> resultTurnaroundColumn;
     @FXML
-    private TableColumn<ProcessResult, String> resultBurstColumn;
+    private ComboBox<ResultTableModel.Column> resultFilterColumnCombo;
     @FXML
-    private TableColumn<ProcessResult, String> resultCompletionColumn;
+    private ComboBox<ResultTableModel.Comparison> resultFilterComparisonCombo;
     @FXML
-    private TableColumn<ProcessResult, String> resultWaitingColumn;
+    private TextField resultFilterValueField;
     @FXML
-    private TableColumn<ProcessResult, String> resultTurnaroundColumn;
+    private Button applyResultFilterButton;
+    @FXML
+    private Button clearResultFilterButton;
+    @FXML
+    private Label resultRowCountLabel;
 
     // Comparison Tab
     @FXML
@@ -95,18 +125,40 @@ public class Controller {
     @FXML
     private TableColumn<ComparisonResult, String> compTurnaroundColumn;
     @FXML
+    private TableColumn<ComparisonResult, String> compP99WaitingColumn;
+    @FXML
+    private TableColumn<ComparisonResult, String> compResponseColumn;
+    @FXML
+    private TableColumn<ComparisonResult, String> compP99ResponseColumn;
+    @FXML
+    private TableColumn<ComparisonResult, String> compSlowdownColumn;
+    @FXML
     private TableColumn<ComparisonResult, String> compUtilColumn;
     @FXML
+    private TableColumn<ComparisonResult, String> compRunTimeColumn;
+    @FXML
+    private TableColumn<ComparisonResult, String> compSwitchesColumn;
+    @FXML
     private Button runComparisonButton;
     @FXML
+    private Button cancelComparisonButton;
+    @FXML
+    private ProgressBar comparisonProgress;
+    @FXML
+    private Label comparisonProgressLabel;
+    @FXML
     private TextArea comparisonDetailsArea;
 
     // ====== Data Storage ======
     private List<Process> currentProcesses = new ArrayList<>();
     private List<SchedulingResult> currentResults = new ArrayList<>();
     private ObservableList<ProcessInput> processInputs = FXCollections.observableArrayList();
-    private ObservableList<ProcessResult> processResults = FXCollections.observableArrayList();
+    private ResultTableModel resultModel;
+    private SchedulingResult displayedResult;
     private ObservableList<ComparisonResult> comparisonResults = FXCollections.observableArrayList();
+    private RunSlot schedulerRuns;
+    private RunSlot comparisonRuns;
+    private IncrementalSimulation simulation; // last run's workload; null once rows, algorithm or quantum change
 
     // ====== Initialization ======
     @FXML
@@ -202,6 +254,7 @@ public class Controller {
                         Integer.parseInt(event.getNewValue()); // Validate it's a number
                         process.arrival = event.getNewValue();
                         System.out.println("  ✓ Updated " + process.pid + " arrival to: " + process.arrival);
+                        processEdited(event.getTablePosition().getRow());
                     } catch (NumberFormatException e) {
                         System.err.println("  ✗ Invalid arrival value: " + event.getNewValue());
                         showWarning("Invalid value! Please enter a valid number.");
@@ -224,6 +277,7 @@ public class Controller {
                         } else {
                             process.burst = event.getNewValue();
                             System.out.println("  ✓ Updated " + process.pid + " burst to: " + process.burst);
+                            processEdited(event.getTablePosition().getRow());
                         }
                     } catch (NumberFormatException e) {
                         System.err.println("  ✗ Invalid burst value: " + event.getNewValue());
@@ -242,6 +296,7 @@ public class Controller {
                         Integer.parseInt(event.getNewValue()); // Validate it's a number
                         process.priority = event.getNewValue();
                         System.out.println("  ✓ Updated " + process.pid + " priority to: " + process.priority);
+                        processEdited(event.getTablePosition().getRow());
                     } catch (NumberFormatException e) {
                         System.err.println("  ✗ Invalid priority value: " + event.getNewValue());
                         showWarning("Invalid value! Please enter a valid number.");
@@ -251,6 +306,9 @@ public class Controller {
                 System.out.println("  ✓ Priority column configured for editing");
             }
 
+            // Adding, removing or reloading rows starts the next run from scratch
+            processInputs.addListener((javafx.collections.ListChangeListener<ProcessInput>) change -> simulation = null);
+
             if (processTableView != null) {
                 processTableView.setItems(processInputs);
                 System.out.println("  ✓ Table items set to processInputs observable list");
@@ -325,45 +383,157 @@ public class Controller {
                     "Priority (Non-preemptive)",
                     "Priority (Preemptive)",
                     "Round Robin",
-                    "Multilevel Queue"
+                    "Multilevel Queue",
+                    "Multilevel Feedback Queue",
+                    "Completely Fair (CFS)",
+                    "Lottery",
+                    "Stride"
             ));
             algorithmCombo.getSelectionModel().selectFirst();
+            algorithmCombo.valueProperty().addListener((obs, old, value) -> simulation = null);
         }
 
         // Setup time quantum spinner
         if (timeQuantumSpinner != null) {
             timeQuantumSpinner.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(1, 10, 4));
+            timeQuantumSpinner.valueProperty().addListener((obs, old, value) -> simulation = null);
+        }
+
+        // Setup simulated CPUs; more than one runs the algorithm through MultiprocessorScheduler
+        if (cpuCountSpinner != null) {
+            cpuCountSpinner.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(
+                    1, MultiprocessorScheduler.MAX_CPUS, 1));
+            cpuCountSpinner.valueProperty().addListener((obs, old, value) -> simulation = null);
+        }
+        if (runQueueCombo != null) {
+            runQueueCombo.setItems(FXCollections.observableArrayList(
+                    "Global run queue",
+                    "Per-CPU queues + work stealing"
+            ));
+            runQueueCombo.getSelectionModel().selectFirst();
+            runQueueCombo.valueProperty().addListener((obs, old, value) -> simulation = null);
         }
 
         // Run button
         if (runSchedulerButton != null) {
             runSchedulerButton.setOnAction(e -> runSelectedScheduler());
         }
+        // A new run supersedes the one in progress
+        schedulerRuns = new RunSlot(schedulingProgress, schedulingProgressLabel, cancelSchedulerButton);
     }
 
     private void setupResultsTab() {
-        // Setup results table columns
-        if (resultPidColumn != null) {
-            resultPidColumn.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().pid));
+        // Setup results table columns; items are row indices into the result's ProcessTable
+        bindResultColumn(resultPidColumn, ResultTableModel.Column.PROCESS_ID);
+        bindResultColumn(resultArrivalColumn, ResultTableModel.Column.ARRIVAL);
+        bindResultColumn(resultBurstColumn, ResultTableModel.Column.BURST);
+        bindResultColumn(resultCompletionColumn, ResultTableModel.Column.COMPLETION);
+        bindResultColumn(resultWaitingColumn, ResultTableModel.Column.WAITING);
+        bindResultColumn(resultTurnaroundColumn, ResultTableModel.Column.TURNAROUND);
+
+        // Sort the row index permutation instead of the items themselves
+        resultsTableView.setSortPolicy(table -> {
+            applyResultSort();
+            return true;
+        });
+
+        // Filter controls
+        if (resultFilterColumnCombo != null) {
+            resultFilterColumnCombo.setItems(FXCollections.observableArrayList(ResultTableModel.Column.values()));
+            resultFilterColumnCombo.getSelectionModel().select(ResultTableModel.Column.WAITING);
+        }
+        if (resultFilterComparisonCombo != null) {
+            resultFilterComparisonCombo.setItems(FXCollections.observableArrayList(ResultTableModel.Comparison.values()));
+            resultFilterComparisonCombo.getSelectionModel().selectFirst();
         }
-        if (resultArrivalColumn != null) {
-            resultArrivalColumn.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().arrival));
+        if (applyResultFilterButton != null) {
+            applyResultFilterButton.setOnAction(e -> applyResultFilter());
         }
-        if (resultBurstColumn != null) {
-            resultBurstColumn.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().burst));
+        if (resultFilterValueField != null) {
+            resultFilterValueField.setOnAction(e -> applyResultFilter());
         }
-        if (resultCompletionColumn != null) {
-            resultCompletionColumn.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().completion));
+        if (clearResultFilterButton != null) {
+            clearResultFilterButton.setOnAction(e -> {
+                if (resultModel != null) {
+                    resultModel.clearFilter();
+                    updateResultRowCount();
+                }
+            });
+        }
+
+        // Lane picker for multiprocessor results
+        if (cpuLaneCombo != null) {
+            cpuLaneCombo.getSelectionModel().selectedIndexProperty().addListener((obs, old, index) -> {
+                if (displayedResult != null && index.intValue() >= 0 && index.intValue() < displayedResult.getCpuCount()) {
+                    ganttCanvas.setTimeline(displayedResult.getCpuTimeline(index.intValue()));
+                }
+            });
         }
-        if (resultWaitingColumn != null) {
-            resultWaitingColumn.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().waiting));
+    }
+
+    /**
+     * Offer one Gantt lane per CPU, labelled with its utilization; hidden for single-CPU runs
+     */
+    private void showCpuLanes(SchedulingResult result) {
+        if (cpuLaneCombo == null) {
+            return;
+        }
+        boolean multiprocessor = result.getCpuCount() > 1;
+        List<String> lanes = new ArrayList<>();
+        for (int cpu = 0; multiprocessor && cpu < result.getCpuCount(); cpu++) {
+            lanes.add(String.format("CPU %d (%.1f%% busy)", cpu, result.getCpuUtilization(cpu)));
+        }
+        // Clear the selection first so the listener does not fire for the previous result
+        cpuLaneCombo.getSelectionModel().clearSelection();
+        cpuLaneCombo.setItems(FXCollections.observableArrayList(lanes));
+        if (multiprocessor) {
+            cpuLaneCombo.getSelectionModel().selectFirst();
+        }
+        cpuLaneCombo.setVisible(multiprocessor);
+        cpuLaneCombo.setManaged(multiprocessor);
+        cpuLaneLabel.setVisible(multiprocessor);
+        cpuLaneLabel.setManaged(multiprocessor);
+    }
+
+    private void bindResultColumn(TableColumn<Integer, String> tableColumn, ResultTableModel.Column column) {
+        if (tableColumn == null) {
+            return;
+        }
+        tableColumn.setUserData(column);
+        tableColumn.setCellValueFactory(cellData ->
+                new ReadOnlyStringWrapper(resultModel.format(cellData.getValue(), column)));
+    }
+
+    private void applyResultSort() {
+        if (resultModel == null) {
+            return;
+        }
+        if (resultsTableView.getSortOrder().isEmpty()) {
+            resultModel.clearSort();
+        } else {
+            TableColumn<Integer, ?> sortColumn = resultsTableView.getSortOrder().get(0);
+            resultModel.sort((ResultTableModel.Column) sortColumn.getUserData(),
+                    sortColumn.getSortType() == TableColumn.SortType.ASCENDING);
+        }
+    }
+
+    private void applyResultFilter() {
+        if (resultModel == null) {
+            return;
         }
-        if (resultTurnaroundColumn != null) {
-            resultTurnaroundColumn.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().turnaround));
+        try {
+            int value = Integer.parseInt(resultFilterValueField.getText().trim());
+            resultModel.filter(resultFilterColumnCombo.getValue(), resultFilterComparisonCombo.getValue(), value);
+            updateResultRowCount();
+        } catch (NumberFormatException e) {
+            showWarning("Filter value must be a whole number!");
         }
+    }
 
-        if (resultsTableView != null) {
-            resultsTableView.setItems(processResults);
+    private void updateResultRowCount() {
+        if (resultRowCountLabel != null) {
+            resultRowCountLabel.setText(String.format("%,d of %,d processes",
+                    resultModel.getRowCount(), resultModel.getTotalRowCount()));
         }
     }
 
@@ -378,9 +548,27 @@ public class Controller {
         if (compTurnaroundColumn != null) {
             compTurnaroundColumn.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().avgTurnaround));
         }
+        if (compP99WaitingColumn != null) {
+            compP99WaitingColumn.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().p99Waiting));
+        }
+        if (compResponseColumn != null) {
+            compResponseColumn.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().avgResponse));
+        }
+        if (compP99ResponseColumn != null) {
+            compP99ResponseColumn.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().p99Response));
+        }
+        if (compSlowdownColumn != null) {
+            compSlowdownColumn.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().avgSlowdown));
+        }
         if (compUtilColumn != null) {
             compUtilColumn.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().cpuUtil));
         }
+        if (compRunTimeColumn != null) {
+            compRunTimeColumn.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().runTime));
+        }
+        if (compSwitchesColumn != null) {
+            compSwitchesColumn.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().contextSwitches));
+        }
 
         if (comparisonTableView != null) {
             comparisonTableView.setItems(comparisonResults);
@@ -390,6 +578,7 @@ public class Controller {
         if (runComparisonButton != null) {
             runComparisonButton.setOnAction(e -> runAllComparison());
         }
+        comparisonRuns = new RunSlot(comparisonProgress, comparisonProgressLabel, cancelComparisonButton);
     }
 
     // ====== Input Tab Methods ======
@@ -486,41 +675,60 @@ public class Controller {
                 showError("Invalid algorithm selected!");
                 return;
             }
+            int cpus = cpuCountSpinner != null ? cpuCountSpinner.getValue() : 1;
+            if (cpus > 1) {
+                scheduler = new MultiprocessorScheduler(scheduler, cpus,
+                        runQueueCombo.getSelectionModel().getSelectedIndex() == 1
+                                ? MultiprocessorScheduler.RunQueues.PER_CPU
+                                : MultiprocessorScheduler.RunQueues.GLOBAL);
+            }
 
-            // Show progress
-            schedulingProgress.setVisible(true);
-            schedulingProgress.setProgress(-1); // Indeterminate
-
-            // Run in background
-            new Thread(() -> {
-                try {
-                    List<Process> processCopies = new ArrayList<>();
-                    for (Process p : currentProcesses) {
-                        processCopies.add(p.copy());
-                    }
-
-                    SchedulingResult result = scheduler.schedule(processCopies);
-
-                    Platform.runLater(() -> {
-                        displayResults(result);
-                        schedulingProgress.setProgress(1.0);
-                        schedulingProgress.setVisible(false);
+            // Snapshot the workload on the FX thread; later cell edits are passed
+            // on as row updates so the next run can resume instead of starting over
+            if (simulation == null) {
+                simulation = new IncrementalSimulation(scheduler, ProcessTable.fromProcesses(currentProcesses));
+            }
+            IncrementalSimulation run = simulation;
+            schedulerRuns.submit(
+                    run::simulate,
+                    result -> {
+                        displayResults(result, true);
                         mainTabPane.getSelectionModel().select(2); // Go to results tab
-                    });
-                } catch (Exception e) {
-                    Platform.runLater(() -> {
-                        showError("Scheduling error: " + e.getMessage());
-                        schedulingProgress.setProgress(0);
-                        schedulingProgress.setVisible(false);
-                    });
-                }
-            }).start();
+                    },
+                    e -> showError("Scheduling error: " + e.getMessage()));
 
         } catch (Exception e) {
             showError("Error: " + e.getMessage());
         }
     }
 
+    /**
+     * Pass an edited row to the current simulation and, with auto-run on,
+     * re-run it in the background without leaving the input tab
+     */
+    private void processEdited(int row) {
+        if (simulation == null) {
+            return;
+        }
+        ProcessInput input = processInputs.get(row);
+        try {
+            simulation.update(row, row + 1, Integer.parseInt(input.arrival),
+                    Integer.parseInt(input.burst), Integer.parseInt(input.priority));
+        } catch (NumberFormatException e) {
+            // Another cell of the row is invalid; the next Run reports it
+            simulation = null;
+            return;
+        }
+
+        if (autoRunCheckBox != null && autoRunCheckBox.isSelected()) {
+            IncrementalSimulation run = simulation;
+            schedulerRuns.submit(
+                    run::simulate,
+                    result -> displayResults(result, false),
+                    e -> showError("Scheduling error: " + e.getMessage()));
+        }
+    }
+
     private Scheduler getScheduler(int algIndex) {
         switch (algIndex) {
             case 0:
@@ -537,36 +745,46 @@ public class Controller {
                 return new RoundRobinScheduler(timeQuantumSpinner.getValue());
             case 6:
                 return new MultilevelQueueScheduler();
+            case 7:
+                return new MultilevelFeedbackQueueScheduler();
+            case 8:
+                return new CompletelyFairScheduler();
+            case 9:
+                return new LotteryScheduler(timeQuantumSpinner.getValue(), LotteryScheduler.DEFAULT_SEED);
+            case 10:
+                return new StrideScheduler(timeQuantumSpinner.getValue());
             default:
                 return null;
         }
     }
 
     // ====== Results Display ======
-    private void displayResults(SchedulingResult result) {
+    /**
+     * @param notify Whether to confirm with a dialog; auto-runs update quietly
+     */
+    private void displayResults(SchedulingResult result, boolean notify) {
         // Display metrics
         avgWaitingTimeLabel.setText(String.format("%.2f", result.getAverageWaitingTime()));
         avgTurnaroundLabel.setText(String.format("%.2f", result.getAverageTurnaroundTime()));
         cpuUtilLabel.setText(String.format("%.2f%%", result.getCpuUtilization()));
-
-        // Display Gantt chart
-        GanttChart ganttChart = new GanttChart(result);
-        ganttChartArea.setText(ganttChart.exportAsASCII());
-
-        // Display process results
-        processResults.clear();
-        for (Process p : result.getProcesses()) {
-            processResults.add(new ProcessResult(
-                    "P" + p.getProcessId(),
-                    String.valueOf(p.getArrivalTime()),
-                    String.valueOf(p.getBurstTime()),
-                    String.valueOf(p.getCompletionTime()),
-                    String.valueOf(p.getWaitingTime()),
-                    String.valueOf(p.getTurnaroundTime())
-            ));
+        if (runStatsLabel != null) {
+            runStatsLabel.setText(result.getStatistics().toString());
         }
 
-        showInfo("Scheduling completed successfully!");
+        // Display Gantt chart; the canvas reads slices straight from the timeline
+        displayedResult = result;
+        showCpuLanes(result);
+        ganttCanvas.setTimeline(result.getGanttTimeline());
+
+        // Display process results; rows are formatted lazily as they scroll into view
+        resultModel = ResultTableModel.of(result);
+        resultsTableView.getSortOrder().clear();
+        resultsTableView.setItems(resultModel.rows());
+        updateResultRowCount();
+
+        if (notify) {
+            showInfo("Scheduling completed successfully!");
+        }
     }
 
     // ====== Comparison Methods ======
@@ -583,44 +801,15 @@ public class Controller {
                 return;
             }
 
-            runComparisonButton.setDisable(true);
-
-            new Thread(() -> {
-                try {
-                    List<SchedulingResult> results = new ArrayList<>();
-
-                    // Run all algorithms
-                    Scheduler[] schedulers = {
-                            new FCFSScheduler(),
-                            new SJFScheduler(false),
-                            new SJFScheduler(true),
-                            new PriorityScheduler(false),
-                            new PriorityScheduler(true),
-                            new RoundRobinScheduler(4),
-                            new MultilevelQueueScheduler()
-                    };
-
-                    for (Scheduler scheduler : schedulers) {
-                        List<Process> copies = new ArrayList<>();
-                        for (Process p : currentProcesses) {
-                            copies.add(p.copy());
-                        }
-                        results.add(scheduler.schedule(copies));
-                    }
-
-                    Platform.runLater(() -> {
+            // Run all algorithms in parallel on a shared snapshot of the workload
+            ProcessTable snapshot = ProcessTable.fromProcesses(currentProcesses);
+            comparisonRuns.submit(
+                    monitor -> ComparisonRunner.runAll(ComparisonRunner.defaultSchedulers(4), snapshot, monitor),
+                    results -> {
                         displayComparison(results);
-                        runComparisonButton.setDisable(false);
                         mainTabPane.getSelectionModel().select(3); // Go to comparison tab
-                    });
-
-                } catch (Exception e) {
-                    Platform.runLater(() -> {
-                        showError("Comparison error: " + e.getMessage());
-                        runComparisonButton.setDisable(false);
-                    });
-                }
-            }).start();
+                    },
+                    e -> showError("Comparison error: " + e.getMessage()));
 
         } catch (Exception e) {
             showError("Error: " + e.getMessage());
@@ -631,11 +820,19 @@ public class Controller {
         comparisonResults.clear();
 
         for (SchedulingResult result : results) {
+            SchedulingMetrics metrics = result.getMetrics();
+            boolean measured = metrics.getCompleted() > 0;
             comparisonResults.add(new ComparisonResult(
                     result.getAlgorithmName(),
                     String.format("%.2f", result.getAverageWaitingTime()),
                     String.format("%.2f", result.getAverageTurnaroundTime()),
-                    String.format("%.2f%%", result.getCpuUtilization())
+                    measured ? String.valueOf(metrics.getWaitingTimePercentile(99)) : "-",
+                    measured ? String.format("%.2f", metrics.getAverageResponseTime()) : "-",
+                    measured ? String.valueOf(metrics.getResponseTimePercentile(99)) : "-",
+                    measured ? String.format("%.2f", metrics.getAverageSlowdown()) : "-",
+                    String.format("%.2f%%", result.getCpuUtilization()),
+                    String.format("%.2f", result.getExecutionTime() / 1_000_000.0),
+                    String.valueOf(result.getStatistics().getContextSwitches())
             ));
         }
 
@@ -648,7 +845,19 @@ public class Controller {
             details.append("Algorithm: ").append(result.getAlgorithmName()).append("\n");
             details.append("  Avg Waiting Time: ").append(String.format("%.2f", result.getAverageWaitingTime())).append("\n");
             details.append("  Avg Turnaround Time: ").append(String.format("%.2f", result.getAverageTurnaroundTime())).append("\n");
-            details.append("  CPU Utilization: ").append(String.format("%.2f%%", result.getCpuUtilization())).append("\n\n");
+            details.append("  CPU Utilization: ").append(String.format("%.2f%%", result.getCpuUtilization())).append("\n");
+            SchedulingMetrics metrics = result.getMetrics();
+            if (metrics.getCompleted() > 0) {
+                details.append(String.format("  Waiting Time p50/p95/p99/p99.9: %d / %d / %d / %d%n",
+                        metrics.getWaitingTimePercentile(50), metrics.getWaitingTimePercentile(95),
+                        metrics.getWaitingTimePercentile(99), metrics.getWaitingTimePercentile(99.9)));
+                details.append(String.format("  Response Time: avg %.2f, p99 %d%n",
+                        metrics.getAverageResponseTime(), metrics.getResponseTimePercentile(99)));
+                details.append(String.format("  Bounded Slowdown: avg %.2f, p99 %.2f%n",
+                        metrics.getAverageSlowdown(), metrics.getSlowdownPercentile(99)));
+            }
+            details.append("  Run Time: ").append(String.format("%.2f ms", result.getExecutionTime() / 1_000_000.0)).append("\n");
+            details.append("  Run Statistics: ").append(result.getStatistics()).append("\n\n");
         }
 
         comparisonDetailsArea.setText(details.toString());
@@ -711,35 +920,31 @@ public class Controller {
         }
     }
 
-    public static class ProcessResult {
-        public String pid;
-        public String arrival;
-        public String burst;
-        public String completion;
-        public String waiting;
-        public String turnaround;
-
-        public ProcessResult(String pid, String arrival, String burst, String completion, String waiting, String turnaround) {
-            this.pid = pid;
-            this.arrival = arrival;
-            this.burst = burst;
-            this.completion = completion;
-            this.waiting = waiting;
-            this.turnaround = turnaround;
-        }
-    }
-
     public static class ComparisonResult {
         public String algorithm;
         public String avgWaiting;
         public String avgTurnaround;
+        public String p99Waiting;
+        public String avgResponse;
+        public String p99Response;
+        public String avgSlowdown;
         public String cpuUtil;
+        public String runTime;
+        public String contextSwitches;
 
-        public ComparisonResult(String algorithm, String avgWaiting, String avgTurnaround, String cpuUtil) {
+        public ComparisonResult(String algorithm, String avgWaiting, String avgTurnaround, String p99Waiting,
+                                String avgResponse, String p99Response, String avgSlowdown, String cpuUtil,
+                                String runTime, String contextSwitches) {
             this.algorithm = algorithm;
             this.avgWaiting = avgWaiting;
             this.avgTurnaround = avgTurnaround;
+            this.p99Waiting = p99Waiting;
+            this.avgResponse = avgResponse;
+            this.p99Response = p99Response;
+            this.avgSlowdown = avgSlowdown;
             this.cpuUtil = cpuUtil;
+            this.runTime = runTime;
+            this.contextSwitches = contextSwitches;
         }
     }
 }
@@ -0,0 +1,306 @@
+package ui;
+
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import models.GanttTimeline;
+
+/**
+ * Virtualized Gantt chart drawn on a Canvas
+ * Only the visible time window is drawn, read straight from the
+ * GanttTimeline arrays. When slices get narrower than a few pixels each
+ * pixel column is drawn as the process that occupies most of it (level of
+ * detail), so a frame costs O(width) binary searches however many slices
+ * the run produced.
+ *
+ * Scroll to zoom around the pointer, drag or shift-scroll to pan,
+ * double-click to fit the whole chart.
+ */
+public class GanttCanvas extends Region {
+    private static final double BAR_TOP = 6;
+    private static final double BAR_HEIGHT = 34;
+    private static final double TICK_LENGTH = 4;
+    private static final double MIN_TICK_SPACING = 70;
+    private static final double MIN_DETAIL_WIDTH = 3; // pixels per slice needed to draw slices one by one
+    private static final double CHAR_WIDTH = 7;
+    private static final int MAX_COLUMN_WALK = 32; // slices examined per pixel column before sampling
+    private static final double ZOOM_STEP = 1.25;
+    private static final Font LABEL_FONT = Font.font("Monospaced", 11);
+
+    private final Canvas canvas = new Canvas();
+    private GanttTimeline timeline;
+    private double viewStart; // time at the left edge
+    private double viewSpan;  // time units across the full width
+    private double dragX;
+    private double dragViewStart;
+
+    public GanttCanvas() {
+        getChildren().add(canvas);
+        setMinHeight(70);
+        setPrefHeight(80);
+
+        setOnScroll(this::handleScroll);
+        setOnMousePressed(e -> {
+            dragX = e.getX();
+            dragViewStart = viewStart;
+        });
+        setOnMouseDragged(e -> {
+            viewStart = dragViewStart - (e.getX() - dragX) * timePerPixel();
+            clampView();
+            draw();
+        });
+        setOnMouseClicked(e -> {
+            if (e.getClickCount() == 2) {
+                fitAll();
+            }
+        });
+    }
+
+    /**
+     * Show a new chart, zoomed to fit
+     */
+    public void setTimeline(GanttTimeline timeline) {
+        this.timeline = timeline;
+        fitAll();
+    }
+
+    /**
+     * Zoom out to show the whole chart
+     */
+    public void fitAll() {
+        viewStart = startTime();
+        viewSpan = Math.max(1, endTime() - startTime());
+        draw();
+    }
+
+    /**
+     * Scale the visible span by factor, keeping the time under pivotX in place
+     */
+    public void zoom(double factor, double pivotX) {
+        double pivotTime = viewStart + pivotX * timePerPixel();
+        viewSpan *= factor;
+        clampView();
+        viewStart = pivotTime - pivotX * timePerPixel();
+        clampView();
+        draw();
+    }
+
+    @Override
+    protected void layoutChildren() {
+        canvas.setWidth(Math.floor(getWidth()));
+        canvas.setHeight(Math.floor(getHeight()));
+        draw();
+    }
+
+    private void handleScroll(ScrollEvent e) {
+        // Shift swaps the wheel to horizontal on some platforms, so accept either delta
+        double pan = e.isShiftDown() ? e.getDeltaX() + e.getDeltaY() : e.getDeltaX();
+        if (pan != 0) {
+            viewStart -= pan * timePerPixel();
+            clampView();
+            draw();
+        } else if (e.getDeltaY() != 0) {
+            zoom(e.getDeltaY() > 0 ? 1 / ZOOM_STEP : ZOOM_STEP, e.getX());
+        }
+        e.consume();
+    }
+
+    private void draw() {
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+        g.setFill(Color.WHITE);
+        g.fillRect(0, 0, width, height);
+        g.setFont(LABEL_FONT);
+
+        if (timeline == null || timeline.getCompleteSliceCount() == 0 || width < 1) {
+            g.setFill(Color.GRAY);
+            g.setTextAlign(TextAlignment.LEFT);
+            g.setTextBaseline(VPos.CENTER);
+            g.fillText("No scheduling data available.", 10, height / 2);
+            return;
+        }
+
+        int first = timeline.findSlice(viewStart);
+        int last = timeline.findSlice(viewStart + viewSpan);
+        if ((last - first + 1) * MIN_DETAIL_WIDTH <= width) {
+            drawSlices(g, first, last);
+        } else {
+            drawColumns(g, first, width);
+        }
+        drawAxis(g, width);
+    }
+
+    /**
+     * Detail view: one outlined, labelled rectangle per visible slice
+     */
+    private void drawSlices(GraphicsContext g, int first, int last) {
+        double pixelsPerTime = 1 / timePerPixel();
+        g.setTextAlign(TextAlignment.CENTER);
+        g.setTextBaseline(VPos.CENTER);
+        g.setStroke(Color.gray(0.25));
+        g.setLineWidth(1);
+
+        for (int slice = first; slice <= last; slice++) {
+            double x0 = (timeline.getTime(slice) - viewStart) * pixelsPerTime;
+            double x1 = (timeline.getTime(slice + 1) - viewStart) * pixelsPerTime;
+            int processId = timeline.getProcessId(slice);
+
+            g.setFill(colorFor(processId));
+            g.fillRect(x0, BAR_TOP, x1 - x0, BAR_HEIGHT);
+            g.strokeRect(x0 + 0.5, BAR_TOP + 0.5, Math.max(0, x1 - x0 - 1), BAR_HEIGHT - 1);
+
+            // Label centred in the visible part of the slice if it fits
+            double visible0 = Math.max(x0, 0);
+            double visible1 = Math.min(x1, canvas.getWidth());
+            String label = processId == GanttTimeline.IDLE ? "idle" : "P" + processId;
+            if (visible1 - visible0 >= label.length() * CHAR_WIDTH + 4) {
+                g.setFill(Color.BLACK);
+                g.fillText(label, (visible0 + visible1) / 2, BAR_TOP + BAR_HEIGHT / 2);
+            }
+        }
+    }
+
+    /**
+     * Level-of-detail view: each pixel column shows its dominant process
+     * Columns that contain more than one slice get a dark strip along the
+     * bottom of the bar, so dense context switching stays visible.
+     */
+    private void drawColumns(GraphicsContext g, int first, double width) {
+        double timePerPixel = timePerPixel();
+        int columns = (int) Math.ceil(width);
+        int slice = first;
+
+        int runStart = 0;
+        int runProcess = Integer.MIN_VALUE;
+        boolean runMixed = false;
+        for (int column = 0; column <= columns; column++) {
+            int process = Integer.MIN_VALUE;
+            boolean mixed = false;
+            if (column < columns) {
+                double columnStart = viewStart + column * timePerPixel;
+                double columnEnd = columnStart + timePerPixel;
+                // A slice starting exactly at columnEnd belongs to the next column
+                int end = timeline.findSlice(columnEnd);
+                int lastInside = end > slice && timeline.getTime(end) >= columnEnd ? end - 1 : end;
+                process = dominantProcess(slice, lastInside, columnStart, columnEnd);
+                mixed = lastInside > slice;
+                slice = end;
+            }
+
+            // Merge identical neighbouring columns into one rectangle
+            if (process != runProcess || mixed != runMixed) {
+                if (runProcess != Integer.MIN_VALUE) {
+                    g.setFill(colorFor(runProcess));
+                    g.fillRect(runStart, BAR_TOP, column - runStart, BAR_HEIGHT);
+                    if (runMixed) {
+                        g.setFill(Color.gray(0.2, 0.6));
+                        g.fillRect(runStart, BAR_TOP + BAR_HEIGHT - 4, column - runStart, 4);
+                    }
+                }
+                runStart = column;
+                runProcess = process;
+                runMixed = mixed;
+            }
+        }
+
+        g.setStroke(Color.gray(0.25));
+        g.setLineWidth(1);
+        g.strokeRect(0.5, BAR_TOP + 0.5, width - 1, BAR_HEIGHT - 1);
+    }
+
+    /**
+     * Process with the largest overlap with [columnStart, columnEnd)
+     * Walks at most MAX_COLUMN_WALK slices; beyond that the slice at the
+     * column centre is used, which is what the eye sees at that density anyway.
+     */
+    private int dominantProcess(int firstSlice, int lastSlice, double columnStart, double columnEnd) {
+        if (lastSlice - firstSlice > MAX_COLUMN_WALK) {
+            return timeline.getProcessId(timeline.findSlice((columnStart + columnEnd) / 2));
+        }
+        int best = timeline.getProcessId(firstSlice);
+        double bestOverlap = -1;
+        for (int slice = firstSlice; slice <= lastSlice; slice++) {
+            double overlap = Math.min(timeline.getTime(slice + 1), columnEnd)
+                    - Math.max(timeline.getTime(slice), columnStart);
+            if (overlap > bestOverlap) {
+                bestOverlap = overlap;
+                best = timeline.getProcessId(slice);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Time axis with ticks on a 1-2-5 step at least MIN_TICK_SPACING pixels apart
+     */
+    private void drawAxis(GraphicsContext g, double width) {
+        double axisY = BAR_TOP + BAR_HEIGHT;
+        double timePerPixel = timePerPixel();
+        long step = niceStep(MIN_TICK_SPACING * timePerPixel);
+
+        g.setStroke(Color.gray(0.35));
+        g.setFill(Color.gray(0.2));
+        g.setTextAlign(TextAlignment.CENTER);
+        g.setTextBaseline(VPos.TOP);
+        for (long tick = (long) Math.ceil(viewStart / step) * step; tick <= viewStart + viewSpan; tick += step) {
+            double x = Math.floor((tick - viewStart) / timePerPixel) + 0.5;
+            g.strokeLine(x, axisY, x, axisY + TICK_LENGTH);
+            g.fillText(Long.toString(tick), x, axisY + TICK_LENGTH + 1);
+        }
+    }
+
+    /**
+     * Smallest 1, 2 or 5 times a power of ten that is at least minimum (and at least 1)
+     */
+    private static long niceStep(double minimum) {
+        long magnitude = 1;
+        while (true) {
+            if (magnitude >= minimum) {
+                return magnitude;
+            }
+            if (2 * magnitude >= minimum) {
+                return 2 * magnitude;
+            }
+            if (5 * magnitude >= minimum) {
+                return 5 * magnitude;
+            }
+            magnitude *= 10;
+        }
+    }
+
+    private void clampView() {
+        double total = Math.max(1, endTime() - startTime());
+        viewSpan = Math.max(Math.min(viewSpan, total), Math.min(1, total));
+        viewStart = Math.max(startTime(), Math.min(viewStart, endTime() - viewSpan));
+    }
+
+    private double timePerPixel() {
+        return viewSpan / Math.max(1, canvas.getWidth());
+    }
+
+    private int startTime() {
+        return timeline == null || timeline.getTimeCount() == 0 ? 0 : timeline.getTime(0);
+    }
+
+    private int endTime() {
+        return timeline == null ? 0 : timeline.getEndTime();
+    }
+
+    /**
+     * Stable, well-spread colour per process ID (golden-angle hue steps); idle time is light grey
+     */
+    private static Color colorFor(int processId) {
+        if (processId == GanttTimeline.IDLE) {
+            return Color.gray(0.92);
+        }
+        double hue = (processId * 137.508) % 360;
+        return Color.hsb(hue < 0 ? hue + 360 : hue, 0.45, 0.95);
+    }
+}
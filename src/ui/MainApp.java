@@ -90,6 +90,12 @@ public class MainApp extends Application {
         }
     }
 
+    @Override
+    public void stop() {
+        // Stop any scheduling still running in the background
+        RunSlot.shutdown();
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
@@ -0,0 +1,253 @@
+package ui;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+import models.ProcessTable;
+import models.SchedulingResult;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Lazy row model for the results table
+ * Table items are row indices into the result's ProcessTable, and cells are
+ * formatted only when the TableView asks for a visible row. Sorting and
+ * filtering rearrange an int[] of row indices; the columns are never copied.
+ */
+public class ResultTableModel {
+
+    /**
+     * Columns shown in the results table
+     */
+    public enum Column {
+        PROCESS_ID("Process"),
+        ARRIVAL("Arrival"),
+        BURST("Burst"),
+        COMPLETION("Completion"),
+        WAITING("Waiting Time"),
+        TURNAROUND("Turnaround Time");
+
+        private final String label;
+
+        Column(String label) {
+            this.label = label;
+        }
+
+        int[] values(ProcessTable table) {
+            switch (this) {
+                case PROCESS_ID:
+                    return table.getProcessIds();
+                case ARRIVAL:
+                    return table.getArrivalTimes();
+                case BURST:
+                    return table.getBurstTimes();
+                case COMPLETION:
+                    return table.getCompletionTimes();
+                case WAITING:
+                    return table.getWaitingTimes();
+                default:
+                    return table.getTurnaroundTimes();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    /**
+     * Filter comparisons
+     */
+    public enum Comparison {
+        AT_LEAST("≥"),
+        AT_MOST("≤"),
+        EQUAL("=");
+
+        private final String symbol;
+
+        Comparison(String symbol) {
+            this.symbol = symbol;
+        }
+
+        boolean test(int value, int target) {
+            switch (this) {
+                case AT_LEAST:
+                    return value >= target;
+                case AT_MOST:
+                    return value <= target;
+                default:
+                    return value == target;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return symbol;
+        }
+    }
+
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+
+    private final ProcessTable table;
+    private final Rows rows = new Rows();
+
+    private int[] filteredRows; // null when no filter is set
+    private int filteredCount;
+    private Column sortColumn;  // null keeps table order
+    private boolean ascending;
+
+    private int[] visibleRows;  // null means rows 0..visibleCount-1 in table order
+    private int visibleCount;
+
+    public ResultTableModel(ProcessTable table) {
+        this.table = table;
+        this.visibleCount = table.size();
+    }
+
+    /**
+     * Model over a result's process table, building one only for list-based results
+     */
+    public static ResultTableModel of(SchedulingResult result) {
+        ProcessTable table = result.getProcessTable();
+        if (table == null) {
+            table = ProcessTable.fromProcesses(result.getProcesses());
+        }
+        return new ResultTableModel(table);
+    }
+
+    /**
+     * Visible row indices, for TableView.setItems(); the same list instance
+     * is updated in place when sorting or filtering changes
+     */
+    public ObservableList<Integer> rows() {
+        return rows;
+    }
+
+    public int getRowCount() {
+        return visibleCount;
+    }
+
+    public int getTotalRowCount() {
+        return table.size();
+    }
+
+    /**
+     * Format one cell; called by the TableView only for rows on screen
+     */
+    public String format(int row, Column column) {
+        int value = column.values(table)[row];
+        return column == Column.PROCESS_ID ? "P" + value : Integer.toString(value);
+    }
+
+    public void sort(Column column, boolean ascending) {
+        this.sortColumn = column;
+        this.ascending = ascending;
+        update();
+    }
+
+    public void clearSort() {
+        this.sortColumn = null;
+        update();
+    }
+
+    /**
+     * Keep only rows whose column value satisfies the comparison
+     */
+    public void filter(Column column, Comparison comparison, int target) {
+        int[] values = column.values(table);
+        int[] matches = new int[table.size()];
+        int count = 0;
+        for (int row = 0; row < table.size(); row++) {
+            if (comparison.test(values[row], target)) {
+                matches[count++] = row;
+            }
+        }
+        this.filteredRows = matches;
+        this.filteredCount = count;
+        update();
+    }
+
+    public void clearFilter() {
+        this.filteredRows = null;
+        update();
+    }
+
+    /**
+     * Rebuild the visible order from the current filter and sort
+     */
+    private void update() {
+        int[] oldRows = visibleRows;
+        int oldCount = visibleCount;
+
+        int count = filteredRows == null ? table.size() : filteredCount;
+        if (sortColumn == null) {
+            visibleRows = filteredRows;
+        } else {
+            // Sort (value, row) pairs packed into longs: the value in the high
+            // half orders correctly even when negative, the row breaks ties
+            int[] values = sortColumn.values(table);
+            long[] keys = new long[count];
+            for (int i = 0; i < count; i++) {
+                int row = filteredRows == null ? i : filteredRows[i];
+                keys[i] = ((long) values[row] << 32) | row;
+            }
+            if (count >= PARALLEL_SORT_THRESHOLD) {
+                Arrays.parallelSort(keys);
+            } else {
+                Arrays.sort(keys);
+            }
+            visibleRows = new int[count];
+            for (int i = 0; i < count; i++) {
+                visibleRows[ascending ? i : count - 1 - i] = (int) keys[i];
+            }
+        }
+        visibleCount = count;
+        rows.replaced(oldRows, oldCount);
+    }
+
+    private int rowAt(int[] order, int index) {
+        return order == null ? index : order[index];
+    }
+
+    /**
+     * Observable view of the visible row indices
+     * Boxes only the indices that are actually read.
+     */
+    private class Rows extends ObservableListBase<Integer> {
+        @Override
+        public Integer get(int index) {
+            if (index < 0 || index >= visibleCount) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return rowAt(visibleRows, index);
+        }
+
+        @Override
+        public int size() {
+            return visibleCount;
+        }
+
+        /**
+         * Report the whole list as replaced; the removed side is a view of the old order
+         */
+        void replaced(int[] oldRows, int oldCount) {
+            List<Integer> removed = new AbstractList<Integer>() {
+                @Override
+                public Integer get(int index) {
+                    return rowAt(oldRows, index);
+                }
+
+                @Override
+                public int size() {
+                    return oldCount;
+                }
+            };
+            beginChange();
+            nextReplace(0, visibleCount, removed);
+            endChange();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package ui;
+
+import javafx.application.Platform;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+
+import algorithms.ProgressMonitor;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Background runs for one GUI tab, with a supersede policy
+ * Starting a run cancels the tab's previous run through its ProgressMonitor.
+ * Each run gets a generation number, and only the latest generation may
+ * touch the UI, so a superseded run can never overwrite a newer result.
+ * All slots share one bounded pool of named daemon threads for the
+ * lifetime of the application.
+ *
+ * Methods other than the constructor must be called on the FX thread.
+ */
+class RunSlot {
+    private static final int WORKER_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    private final ProgressBar bar;
+    private final Label label;
+    private final Button cancelButton;
+    private long generation;
+    private RunMonitor current; // null when idle
+
+    RunSlot(ProgressBar bar, Label label, Button cancelButton) {
+        this.bar = bar;
+        this.label = label;
+        this.cancelButton = cancelButton;
+        cancelButton.setOnAction(e -> cancel());
+    }
+
+    /**
+     * Run work on the shared pool, superseding any run still in progress
+     * The callbacks run on the FX thread, and only if no newer run has been
+     * started in this slot meanwhile. A run cancelled with the Cancel button
+     * calls neither. A run that fails, with an exception or an Error such as
+     * OutOfMemoryError, is reported to onError.
+     */
+    <T> void submit(Function<ProgressMonitor, T> work, Consumer<T> onResult, Consumer<Throwable> onError) {
+        if (current != null) {
+            current.cancel();
+        }
+        long run = ++generation;
+        RunMonitor monitor = new RunMonitor(bar, label);
+        current = monitor;
+        cancelButton.setDisable(false);
+
+        EXECUTOR.execute(() -> {
+            try {
+                T result = work.apply(monitor);
+                Platform.runLater(() -> {
+                    if (finish(run)) {
+                        onResult.accept(result);
+                    }
+                });
+            } catch (CancellationException e) {
+                Platform.runLater(() -> {
+                    if (finish(run)) {
+                        label.setText("Run cancelled.");
+                    }
+                });
+            } catch (Exception | Error e) {
+                // Errors too: an OutOfMemoryError on a huge run must still end the run in the UI
+                Platform.runLater(() -> {
+                    if (finish(run)) {
+                        onError.accept(e);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Ask the current run, if any, to stop
+     */
+    void cancel() {
+        if (current != null) {
+            current.cancel();
+            label.setText("Cancelling...");
+        }
+    }
+
+    boolean isRunning() {
+        return current != null;
+    }
+
+    /**
+     * Stop the shared pool; called when the application exits
+     */
+    static void shutdown() {
+        EXECUTOR.shutdownNow();
+    }
+
+    /**
+     * End the given run if it is still the current one
+     * @return false for a superseded run, whose outcome must be ignored
+     */
+    private boolean finish(long run) {
+        if (run != generation) {
+            return false;
+        }
+        current.finish();
+        current = null;
+        cancelButton.setDisable(true);
+        return true;
+    }
+
+    private static ExecutorService createExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(WORKER_THREADS, task -> {
+            Thread thread = new Thread(task, "scheduler-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Progress monitor for one run, shown on the slot's bar and label
+     * Reports arrive on the worker threads; at most one UI update is queued
+     * at a time, so a fast run cannot flood the FX event queue.
+     */
+    private static class RunMonitor implements ProgressMonitor {
+        private final ProgressBar bar;
+        private final Label label;
+        private final AtomicBoolean updateQueued = new AtomicBoolean();
+        private volatile boolean cancelled;
+        private volatile long completed;
+        private volatile long total;
+        private volatile long simulatedTime;
+        private boolean finished; // FX thread only
+
+        RunMonitor(ProgressBar bar, Label label) {
+            this.bar = bar;
+            this.label = label;
+            bar.setProgress(ProgressBar.INDETERMINATE_PROGRESS);
+            bar.setVisible(true);
+            label.setText("Starting...");
+        }
+
+        @Override
+        public void progress(long completed, long total, long simulatedTime) {
+            this.completed = completed;
+            this.total = total;
+            this.simulatedTime = simulatedTime;
+            if (updateQueued.compareAndSet(false, true)) {
+                Platform.runLater(this::show);
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+
+        /**
+         * Hide the bar once the run has ended; later queued updates are ignored
+         */
+        void finish() {
+            finished = true;
+            bar.setVisible(false);
+            bar.setProgress(0);
+            label.setText("");
+        }
+
+        private void show() {
+            updateQueued.set(false);
+            if (finished || cancelled) {
+                return;
+            }
+            long done = completed;
+            long all = total;
+            bar.setProgress(all > 0 ? (double) done / all : ProgressBar.INDETERMINATE_PROGRESS);
+            label.setText(all > 0
+                    ? String.format("%,d / %,d processes completed (time %,d)", done, all, simulatedTime)
+                    : String.format("%,d processes completed (time %,d)", done, simulatedTime));
+        }
+    }
+}
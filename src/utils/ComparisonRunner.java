@@ -0,0 +1,108 @@
+package utils;
+
+import algorithms.*;
+import models.Process;
+import models.ProcessTable;
+import models.SchedulingResult;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Runs several schedulers on the same workload concurrently
+ * Every scheduler reads one shared ProcessTable snapshot (schedulers copy
+ * their input before modifying it), so a comparison takes about as long
+ * as the slowest algorithm rather than the sum of all of them
+ */
+public class ComparisonRunner {
+
+    /**
+     * Get the standard set of schedulers used for "compare all"
+     */
+    public static List<Scheduler> defaultSchedulers(int timeQuantum) {
+        List<Scheduler> schedulers = new ArrayList<>();
+        schedulers.add(new FCFSScheduler());
+        schedulers.add(new SJFScheduler(false));
+        schedulers.add(new SJFScheduler(true));
+        schedulers.add(new PriorityScheduler(false));
+        schedulers.add(new PriorityScheduler(true));
+        schedulers.add(new RoundRobinScheduler(timeQuantum));
+        schedulers.add(new MultilevelQueueScheduler());
+        return schedulers;
+    }
+
+    /**
+     * Run every scheduler on the processes in parallel
+     * Every run is measured by an InstrumentedScheduler, so each result carries
+     * its wall-clock time and RunStatistics.
+     * @return Results in the same order as the schedulers
+     */
+    public static List<SchedulingResult> runAll(List<Scheduler> schedulers, List<Process> processes) {
+        return runAll(schedulers, ProcessTable.fromProcesses(processes));
+    }
+
+    /**
+     * Run every scheduler on the table in parallel
+     * The table is shared read-only between all runs and must not be modified meanwhile.
+     * @return Results in the same order as the schedulers
+     */
+    public static List<SchedulingResult> runAll(List<Scheduler> schedulers, ProcessTable snapshot) {
+        return runAll(schedulers, snapshot, ProgressMonitor.NONE);
+    }
+
+    /**
+     * Run every scheduler on the table in parallel, reporting combined progress
+     * The monitor sees completed processes summed over all runs out of
+     * schedulers x processes, and is called from the worker threads.
+     * Cancelling it stops every run.
+     * @return Results in the same order as the schedulers
+     * @throws CancellationException If the monitor asks to cancel
+     */
+    public static List<SchedulingResult> runAll(List<Scheduler> schedulers, ProcessTable snapshot,
+                                                ProgressMonitor monitor) {
+        long total = (long) schedulers.size() * snapshot.size();
+        AtomicLongArray completedPerRun = new AtomicLongArray(schedulers.size());
+
+        List<Callable<SchedulingResult>> tasks = new ArrayList<>();
+        for (int i = 0; i < schedulers.size(); i++) {
+            Scheduler instrumented = new InstrumentedScheduler(schedulers.get(i));
+            int run = i;
+            ProgressMonitor runMonitor = new ProgressMonitor() {
+                @Override
+                public void progress(long completed, long runTotal, long simulatedTime) {
+                    completedPerRun.set(run, completed);
+                    long sum = 0;
+                    for (int j = 0; j < completedPerRun.length(); j++) {
+                        sum += completedPerRun.get(j);
+                    }
+                    monitor.progress(sum, total, simulatedTime);
+                }
+
+                @Override
+                public boolean isCancelled() {
+                    return monitor.isCancelled();
+                }
+            };
+            tasks.add(() -> instrumented.schedule(snapshot, runMonitor));
+        }
+
+        List<Future<SchedulingResult>> futures = ForkJoinPool.commonPool().invokeAll(tasks);
+
+        List<SchedulingResult> results = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.add(futures.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Comparison interrupted", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof CancellationException) {
+                    throw (CancellationException) e.getCause();
+                }
+                throw new IllegalStateException(
+                        schedulers.get(i).getAlgorithmName() + " failed: " + e.getCause().getMessage(), e.getCause());
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,195 @@
+package utils;
+
+import algorithms.ProgressMonitor;
+import algorithms.Scheduler;
+import models.ProcessTable;
+import models.SchedulingResult;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Monte Carlo comparison of schedulers over many random workloads
+ * Every run draws its workload from its own SplittableRandom, split from
+ * the seed in run order, and schedules it with each algorithm. Runs execute
+ * in parallel on the common fork-join pool; their average waiting and
+ * turnaround times are streamed into OnlineStatistics in run order, so the
+ * summary for a seed is the same on any number of cores and no
+ * SchedulingResult outlives its run.
+ */
+public class MonteCarloRunner {
+    public static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    /**
+     * Distribution of one algorithm's per-run averages
+     */
+    public static class Summary {
+        private final String algorithmName;
+        private final OnlineStatistics waitingTime = new OnlineStatistics(QUANTILES);
+        private final OnlineStatistics turnaroundTime = new OnlineStatistics(QUANTILES);
+
+        Summary(String algorithmName) {
+            this.algorithmName = algorithmName;
+        }
+
+        public String getAlgorithmName() {
+            return algorithmName;
+        }
+
+        /**
+         * Average waiting time of each run
+         */
+        public OnlineStatistics getWaitingTime() {
+            return waitingTime;
+        }
+
+        /**
+         * Average turnaround time of each run
+         */
+        public OnlineStatistics getTurnaroundTime() {
+            return turnaroundTime;
+        }
+    }
+
+    /**
+     * Workloads of uniformly random processes, as generated by ProcessGenerator
+     */
+    public static Function<SplittableRandom, ProcessTable> uniformWorkload(int count, int maxArrival,
+                                                                           int maxBurst, int maxPriority) {
+        return random -> ProcessGenerator.generateRandomTable(count, maxArrival, maxBurst, maxPriority, random);
+    }
+
+    /**
+     * Schedule runs random workloads with every scheduler, in parallel
+     * The monitor sees processes completed over all runs and algorithms; the
+     * total is estimated from the size of the first workload. It is called
+     * from the worker threads, and cancelling it stops every run.
+     * @param workloads Builds one workload from a random stream; called concurrently
+     * @return One summary per scheduler, in the same order
+     * @throws CancellationException If the monitor asks to cancel
+     */
+    public static List<Summary> run(List<Scheduler> schedulers, Function<SplittableRandom, ProcessTable> workloads,
+                                    int runs, long seed, ProgressMonitor monitor) {
+        List<Summary> summaries = new ArrayList<>();
+        for (Scheduler scheduler : schedulers) {
+            summaries.add(new Summary(scheduler.getAlgorithmName()));
+        }
+        if (runs <= 0) {
+            return summaries;
+        }
+
+        // Split every stream up front, in run order, so results do not depend on thread timing
+        SplittableRandom master = new SplittableRandom(seed);
+        SplittableRandom[] streams = new SplittableRandom[runs];
+        for (int i = 0; i < runs; i++) {
+            streams[i] = master.split();
+        }
+        ProcessTable first = workloads.apply(streams[0]);
+        long total = (long) runs * schedulers.size() * first.size();
+        AtomicLong completed = new AtomicLong();
+        OrderedCollector collector = new OrderedCollector(summaries);
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < runs; i++) {
+            int run = i;
+            tasks.add(() -> {
+                ProcessTable workload = run == 0 ? first : workloads.apply(streams[run]);
+                streams[run] = null;
+                double[] averages = new double[2 * schedulers.size()];
+                for (int s = 0; s < schedulers.size(); s++) {
+                    // Small workloads finish before the engines first poll the monitor
+                    if (monitor.isCancelled()) {
+                        throw new CancellationException("Monte Carlo run cancelled");
+                    }
+                    RunProgress progress = new RunProgress(monitor, completed, total);
+                    SchedulingResult result = schedulers.get(s).schedule(workload, progress);
+                    progress.finish(workload.size());
+                    averages[2 * s] = result.getAverageWaitingTime();
+                    averages[2 * s + 1] = result.getAverageTurnaroundTime();
+                }
+                collector.accept(run, averages);
+                return null;
+            });
+        }
+
+        List<Future<Void>> futures = ForkJoinPool.commonPool().invokeAll(tasks);
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Monte Carlo run interrupted", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof CancellationException) {
+                    throw (CancellationException) e.getCause();
+                }
+                throw new IllegalStateException("Monte Carlo run failed: " + e.getCause().getMessage(), e.getCause());
+            }
+        }
+        return summaries;
+    }
+
+    /**
+     * Forwards one scheduler run's progress into the shared count
+     * Engines report their own completed count, so only the increase since
+     * the last report is added.
+     */
+    private static class RunProgress implements ProgressMonitor {
+        private final ProgressMonitor monitor;
+        private final AtomicLong completed;
+        private final long total;
+        private long last;
+
+        RunProgress(ProgressMonitor monitor, AtomicLong completed, long total) {
+            this.monitor = monitor;
+            this.completed = completed;
+            this.total = total;
+        }
+
+        @Override
+        public void progress(long runCompleted, long runTotal, long simulatedTime) {
+            long sum = completed.addAndGet(runCompleted - last);
+            last = runCompleted;
+            monitor.progress(sum, Math.max(total, sum), simulatedTime);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return monitor.isCancelled();
+        }
+
+        /**
+         * Count the rest of the run once it has finished
+         */
+        void finish(long runTotal) {
+            completed.addAndGet(runTotal - last);
+            last = runTotal;
+        }
+    }
+
+    /**
+     * Feeds per-run averages into the summaries in run order
+     * Runs that finish early wait in a small buffer until every earlier run has been added.
+     */
+    private static class OrderedCollector {
+        private final List<Summary> summaries;
+        private final Map<Integer, double[]> pending = new HashMap<>();
+        private int next;
+
+        OrderedCollector(List<Summary> summaries) {
+            this.summaries = summaries;
+        }
+
+        synchronized void accept(int run, double[] averages) {
+            pending.put(run, averages);
+            for (double[] ready = pending.remove(next); ready != null; ready = pending.remove(next)) {
+                for (int s = 0; s < summaries.size(); s++) {
+                    summaries.get(s).waitingTime.add(ready[2 * s]);
+                    summaries.get(s).turnaroundTime.add(ready[2 * s + 1]);
+                }
+                next++;
+            }
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package utils;
+
+import java.util.*;
+
+/**
+ * Streaming mean, variance and percentile estimates of a series of values
+ * Uses Welford's update for the mean and variance and one P-squared
+ * marker set per tracked quantile (Jain and Chlamtac), so memory stays
+ * constant however many values are added. Not thread-safe.
+ */
+public class OnlineStatistics {
+    private final double[] quantiles;
+    private final Quantile[] estimators;
+    private long count;
+    private double mean;
+    private double squaredDeviations;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+
+    /**
+     * @param quantiles Quantiles to estimate, each between 0 and 1 (e.g. 0.5, 0.9, 0.99)
+     */
+    public OnlineStatistics(double... quantiles) {
+        this.quantiles = quantiles.clone();
+        this.estimators = new Quantile[quantiles.length];
+        for (int i = 0; i < quantiles.length; i++) {
+            if (!(quantiles[i] > 0 && quantiles[i] < 1)) {
+                throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantiles[i]);
+            }
+            estimators[i] = new Quantile(quantiles[i]);
+        }
+    }
+
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        squaredDeviations += delta * (value - mean);
+        min = count == 1 ? value : Math.min(min, value);
+        max = count == 1 ? value : Math.max(max, value);
+        for (Quantile estimator : estimators) {
+            estimator.add(value);
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return count > 0 ? mean : Double.NaN;
+    }
+
+    /**
+     * Sample variance (n - 1 denominator)
+     */
+    public double getVariance() {
+        return count > 1 ? squaredDeviations / (count - 1) : Double.NaN;
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Estimated value of a quantile passed to the constructor
+     * Exact for up to five values, a P-squared estimate after that.
+     */
+    public double getQuantile(double quantile) {
+        for (int i = 0; i < quantiles.length; i++) {
+            if (quantiles[i] == quantile) {
+                return estimators[i].estimate();
+            }
+        }
+        throw new IllegalArgumentException("Quantile not tracked: " + quantile);
+    }
+
+    /**
+     * Half-width of the two-sided confidence interval for the mean
+     * Uses Student's t with count - 1 degrees of freedom.
+     * @param level Confidence level, e.g. 0.95
+     */
+    public double getConfidenceHalfWidth(double level) {
+        if (count < 2) {
+            return Double.NaN;
+        }
+        return studentT((1 + level) / 2, count - 1) * getStandardDeviation() / Math.sqrt(count);
+    }
+
+    /**
+     * Quantile of Student's t distribution
+     * Exact for one and two degrees of freedom; otherwise the Cornish-Fisher
+     * expansion around the normal quantile (Abramowitz and Stegun 26.7.5),
+     * within 0.5% for 90-99% intervals from three degrees of freedom.
+     */
+    static double studentT(double p, long degreesOfFreedom) {
+        if (degreesOfFreedom == 1) {
+            return Math.tan(Math.PI * (p - 0.5));
+        }
+        if (degreesOfFreedom == 2) {
+            return (2 * p - 1) / Math.sqrt(2 * p * (1 - p));
+        }
+        double z = normalQuantile(p);
+        double v = degreesOfFreedom;
+        double z2 = z * z;
+        double g1 = (z2 + 1) * z / 4;
+        double g2 = ((5 * z2 + 16) * z2 + 3) * z / 96;
+        double g3 = (((3 * z2 + 19) * z2 + 17) * z2 - 15) * z / 384;
+        double g4 = ((((79 * z2 + 776) * z2 + 1482) * z2 - 1920) * z2 - 945) * z / 92160;
+        return z + g1 / v + g2 / (v * v) + g3 / (v * v * v) + g4 / (v * v * v * v);
+    }
+
+    /**
+     * Quantile of the standard normal distribution (Acklam's rational
+     * approximation, relative error below 1.2e-9)
+     */
+    static double normalQuantile(double p) {
+        final double[] a = {-3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02,
+                1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+        final double[] b = {-5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02,
+                6.680131188771972e+01, -1.328068155288572e+01};
+        final double[] c = {-7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00,
+                -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+        final double[] d = {7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00,
+                3.754408661907416e+00};
+        final double low = 0.02425;
+
+        if (p < low) {
+            double q = Math.sqrt(-2 * Math.log(p));
+            return (((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+                    / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        if (p > 1 - low) {
+            return -normalQuantile(1 - p);
+        }
+        double q = p - 0.5;
+        double r = q * q;
+        return (((((a[0] * r + a[1]) * r + a[2]) * r + a[3]) * r + a[4]) * r + a[5]) * q
+                / (((((b[0] * r + b[1]) * r + b[2]) * r + b[3]) * r + b[4]) * r + 1);
+    }
+
+    /**
+     * P-squared estimator for one quantile: five markers whose heights
+     * approximate the minimum, p/2, p, (1+p)/2 quantiles and maximum
+     */
+    private static final class Quantile {
+        private final double p;
+        private final double[] heights = new double[5];
+        private final double[] positions = {0, 1, 2, 3, 4};
+        private final double[] desired;
+        private final double[] increments;
+        private int count;
+
+        Quantile(double p) {
+            this.p = p;
+            this.desired = new double[]{0, 2 * p, 4 * p, 2 + 2 * p, 4};
+            this.increments = new double[]{0, p / 2, p, (1 + p) / 2, 1};
+        }
+
+        void add(double value) {
+            if (count < 5) {
+                heights[count++] = value;
+                if (count == 5) {
+                    Arrays.sort(heights);
+                }
+                return;
+            }
+            count++;
+
+            // Cell the value falls in, stretching the end markers if needed
+            int cell;
+            if (value < heights[0]) {
+                heights[0] = value;
+                cell = 0;
+            } else if (value >= heights[4]) {
+                heights[4] = value;
+                cell = 3;
+            } else {
+                cell = 0;
+                while (value >= heights[cell + 1]) {
+                    cell++;
+                }
+            }
+            for (int i = cell + 1; i < 5; i++) {
+                positions[i]++;
+            }
+            for (int i = 0; i < 5; i++) {
+                desired[i] += increments[i];
+            }
+
+            // Move the middle markers one step towards their desired positions
+            for (int i = 1; i <= 3; i++) {
+                double offset = desired[i] - positions[i];
+                if ((offset >= 1 && positions[i + 1] - positions[i] > 1)
+                        || (offset <= -1 && positions[i - 1] - positions[i] < -1)) {
+                    int step = offset > 0 ? 1 : -1;
+                    double height = parabolic(i, step);
+                    if (heights[i - 1] < height && height < heights[i + 1]) {
+                        heights[i] = height;
+                    } else {
+                        heights[i] += step * (heights[i + step] - heights[i]) / (positions[i + step] - positions[i]);
+                    }
+                    positions[i] += step;
+                }
+            }
+        }
+
+        private double parabolic(int i, int step) {
+            return heights[i] + step / (positions[i + 1] - positions[i - 1])
+                    * ((positions[i] - positions[i - 1] + step) * (heights[i + 1] - heights[i])
+                            / (positions[i + 1] - positions[i])
+                        + (positions[i + 1] - positions[i] - step) * (heights[i] - heights[i - 1])
+                            / (positions[i] - positions[i - 1]));
+        }
+
+        double estimate() {
+            if (count == 0) {
+                return Double.NaN;
+            }
+            if (count <= 5) {
+                double[] sorted = Arrays.copyOf(heights, count);
+                Arrays.sort(sorted);
+                return sorted[(int) Math.min(count - 1, Math.max(0, Math.ceil(p * count) - 1))];
+            }
+            return heights[2];
+        }
+    }
+}
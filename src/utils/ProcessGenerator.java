@@ -1,6 +1,7 @@
 package utils;
 
 import models.Process;
+import models.ProcessTable;
 import java.util.*;
 
 /**
@@ -28,8 +29,18 @@ public class ProcessGenerator {
      * Generate random processes
      */
     public static List<Process> generateRandomProcesses(int count, int maxArrival, int maxBurst, int maxPriority) {
-        List<Process> processes = new ArrayList<>();
-        Random random = new Random();
+        return generateRandomProcesses(count, maxArrival, maxBurst, maxPriority, new Random());
+    }
+
+    /**
+     * Generate reproducible random processes from a fixed seed
+     */
+    public static List<Process> generateRandomProcesses(int count, int maxArrival, int maxBurst, int maxPriority, long seed) {
+        return generateRandomProcesses(count, maxArrival, maxBurst, maxPriority, new Random(seed));
+    }
+
+    private static List<Process> generateRandomProcesses(int count, int maxArrival, int maxBurst, int maxPriority, Random random) {
+        List<Process> processes = new ArrayList<>(count);
 
         for (int i = 1; i <= count; i++) {
             int arrival = random.nextInt(maxArrival + 1);
@@ -42,6 +53,23 @@ public class ProcessGenerator {
         return processes;
     }
 
+    /**
+     * Generate random processes straight into a table, with the same
+     * distributions as generateRandomProcesses
+     * SplittableRandom lets parallel callers each draw from their own split() stream.
+     */
+    public static ProcessTable generateRandomTable(int count, int maxArrival, int maxBurst, int maxPriority,
+                                                   SplittableRandom random) {
+        ProcessTable table = new ProcessTable(count);
+        for (int i = 1; i <= count; i++) {
+            int arrival = random.nextInt(maxArrival + 1);
+            int burst = random.nextInt(maxBurst) + 1;
+            int priority = random.nextInt(maxPriority + 1);
+            table.add(i, arrival, burst, priority);
+        }
+        return table;
+    }
+
     /**
      * Get example dataset 2
      */
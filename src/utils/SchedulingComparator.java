@@ -1,5 +1,7 @@
 package utils;
 
+import models.RunStatistics;
+import models.SchedulingMetrics;
 import models.SchedulingResult;
 import java.util.*;
 
@@ -17,22 +19,31 @@ public class SchedulingComparator {
         System.out.println("╚════════════════════════════════════════════════════════════════════════════════╝\n");
 
         // Header
-        System.out.printf("%-40s | %15s | %15s | %12s\n", 
-                "Algorithm", "Avg Waiting Time", "Avg Turnaround", "CPU Util %");
-        System.out.println("─".repeat(90));
+        System.out.printf("%-40s | %15s | %15s | %12s | %10s | %10s | %10s | %10s | %10s\n", 
+                "Algorithm", "Avg Waiting Time", "Avg Turnaround", "CPU Util %", "Run (ms)",
+                "CPU (ms)", "Alloc (MB)", "Switches", "Peak Ready");
+        System.out.println("─".repeat(155));
 
         // Results
         for (SchedulingResult result : results) {
-            System.out.printf("%-40s | %15.2f | %15.2f | %12.2f\n",
+            RunStatistics stats = result.getStatistics();
+            System.out.printf("%-40s | %15.2f | %15.2f | %12.2f | %10.2f | %10s | %10s | %10d | %10s\n",
                     result.getAlgorithmName(),
                     result.getAverageWaitingTime(),
                     result.getAverageTurnaroundTime(),
-                    result.getCpuUtilization()
+                    result.getCpuUtilization(),
+                    result.getExecutionTime() / 1_000_000.0,
+                    RunStatistics.format(stats.getCpuTimeMillis()),
+                    RunStatistics.format(stats.getAllocatedMegabytes()),
+                    stats.getContextSwitches(),
+                    RunStatistics.format(stats.getPeakReadyQueue())
             );
         }
 
+        printTailLatencies(results);
+
         // Find best algorithm
-        System.out.println("\n" + "─".repeat(90));
+        System.out.println("\n" + "─".repeat(155));
         
         SchedulingResult bestWT = results.stream()
                 .min(Comparator.comparingDouble(SchedulingResult::getAverageWaitingTime))
@@ -58,6 +69,43 @@ public class SchedulingComparator {
             System.out.println("✓ Best CPU Utilization: " + bestUtil.getAlgorithmName() + 
                     " (" + String.format("%.2f", bestUtil.getCpuUtilization()) + "%)");
         }
+
+        SchedulingResult bestTail = results.stream()
+                .min(Comparator.comparingLong(r -> r.getMetrics().getWaitingTimePercentile(99)))
+                .orElse(null);
+        if (bestTail != null) {
+            System.out.println("✓ Best p99 Waiting Time: " + bestTail.getAlgorithmName() +
+                    " (" + bestTail.getMetrics().getWaitingTimePercentile(99) + ")");
+        }
+    }
+
+    /**
+     * Print waiting-time percentiles, response time and bounded slowdown of each result
+     */
+    public static void printTailLatencies(List<SchedulingResult> results) {
+        System.out.println("\nTail latency (percentiles within about 1%; slowdown bounded at "
+                + SchedulingMetrics.SLOWDOWN_THRESHOLD + " time units)");
+        System.out.printf("%-40s | %9s | %9s | %9s | %9s | %12s | %9s | %12s | %9s\n",
+                "Algorithm", "Wait p50", "Wait p95", "Wait p99", "p99.9", "Avg Response",
+                "Resp p99", "Avg Slowdown", "Slow p99");
+        System.out.println("─".repeat(139));
+        for (SchedulingResult result : results) {
+            SchedulingMetrics metrics = result.getMetrics();
+            if (metrics.getCompleted() == 0) {
+                continue;
+            }
+            System.out.printf("%-40s | %9d | %9d | %9d | %9d | %12.2f | %9d | %12.2f | %9.2f\n",
+                    result.getAlgorithmName(),
+                    metrics.getWaitingTimePercentile(50),
+                    metrics.getWaitingTimePercentile(95),
+                    metrics.getWaitingTimePercentile(99),
+                    metrics.getWaitingTimePercentile(99.9),
+                    metrics.getAverageResponseTime(),
+                    metrics.getResponseTimePercentile(99),
+                    metrics.getAverageSlowdown(),
+                    metrics.getSlowdownPercentile(99)
+            );
+        }
     }
 
     /**
@@ -94,6 +142,14 @@ public class SchedulingComparator {
             System.out.println("│ Average Waiting Time:    " + String.format("%.2f", result.getAverageWaitingTime()));
             System.out.println("│ Average Turnaround Time: " + String.format("%.2f", result.getAverageTurnaroundTime()));
             System.out.println("│ CPU Utilization:         " + String.format("%.2f%%", result.getCpuUtilization()));
+            SchedulingMetrics metrics = result.getMetrics();
+            if (metrics.getCompleted() > 0) {
+                System.out.println("│ Average Response Time:   " + String.format("%.2f", metrics.getAverageResponseTime()));
+                System.out.println("│ Average Slowdown:        " + String.format("%.2f", metrics.getAverageSlowdown()));
+                System.out.println("│ Waiting Time p50/p99:    " + metrics.getWaitingTimePercentile(50)
+                        + " / " + metrics.getWaitingTimePercentile(99));
+            }
+            System.out.println("│ Run Statistics:          " + result.getStatistics());
             
             System.out.println("│");
             System.out.println("│ Process Details:");
@@ -1,16 +1,26 @@
 package visualization;
 
+import models.GanttTimeline;
 import models.SchedulingResult;
-import java.util.*;
 
 /**
  * Gantt Chart visualization for scheduling results
  */
 public class GanttChart {
-    private SchedulingResult result;
+    private GanttTimeline gantt;
+    private String title;
 
     public GanttChart(SchedulingResult result) {
-        this.result = result;
+        this.gantt = result.getGanttTimeline();
+        this.title = result.getAlgorithmName();
+    }
+
+    /**
+     * Chart of one CPU's lane of a multiprocessor run
+     */
+    public GanttChart(SchedulingResult result, int cpu) {
+        this.gantt = result.getCpuTimeline(cpu);
+        this.title = result.getAlgorithmName() + " - CPU " + cpu;
     }
 
     /**
@@ -18,37 +28,29 @@ public class GanttChart {
      */
     public void display() {
         System.out.println("\n╔════════════════════════════════════════════════════════════════════╗");
-        System.out.println("║ GANTT CHART - " + result.getAlgorithmName());
+        System.out.println("║ GANTT CHART - " + title);
         System.out.println("╚════════════════════════════════════════════════════════════════════╝");
 
-        List<Integer> ganttChart = result.getGanttChart();
-        List<Integer> ganttTime = result.getGanttTime();
-
-        if (ganttChart.isEmpty()) {
+        if (gantt.isEmpty()) {
             System.out.println("No scheduling data available.");
             return;
         }
 
         // Print timeline
         System.out.print("│");
-        for (int i = 0; i < ganttChart.size(); i++) {
-            int processId = ganttChart.get(i);
-            int startTime = ganttTime.get(i);
-            int endTime = ganttTime.get(i + 1);
-            int duration = endTime - startTime;
-            
+        GanttTimeline.Cursor slices = gantt.cursor();
+        while (slices.next()) {
             // Print process box
-            String processLabel = String.format(" P%-2d ", processId);
-            System.out.print(processLabel);
+            System.out.print(label(slices.processId()));
             System.out.print("│");
         }
         System.out.println();
 
         // Print time axis
         System.out.print("0");
-        for (int i = 0; i < ganttChart.size(); i++) {
-            int endTime = ganttTime.get(i + 1);
-            String timeStr = String.valueOf(endTime);
+        slices = gantt.cursor();
+        while (slices.next()) {
+            String timeStr = String.valueOf(slices.endTime());
             // Align time under process box
             int spaces = 5 - timeStr.length();
             System.out.print(" ".repeat(Math.max(0, spaces)));
@@ -62,45 +64,50 @@ public class GanttChart {
      */
     public String exportAsASCII() {
         StringBuilder sb = new StringBuilder();
-        List<Integer> ganttChart = result.getGanttChart();
-        List<Integer> ganttTime = result.getGanttTime();
 
-        if (ganttChart.isEmpty()) {
+        if (gantt.isEmpty()) {
             return "No scheduling data available.";
         }
 
+        // Count complete slices once; the cursor skips any without an end time
+        int slices = 0;
+        GanttTimeline.Cursor cursor = gantt.cursor();
+        while (cursor.next()) {
+            slices++;
+        }
+
         // Top border
         sb.append("┌");
-        for (int i = 0; i < ganttChart.size(); i++) {
+        for (int i = 0; i < slices; i++) {
             sb.append("─────┬");
         }
         sb.append("─┐\n");
 
         // Process boxes
         sb.append("│");
-        for (int processId : ganttChart) {
-            sb.append(String.format(" P%-2d │", processId));
+        cursor = gantt.cursor();
+        while (cursor.next()) {
+            sb.append(label(cursor.processId())).append("│");
         }
         sb.append("\n");
 
         // Middle border
         sb.append("├");
-        for (int i = 0; i < ganttChart.size(); i++) {
+        for (int i = 0; i < slices; i++) {
             sb.append("─────┼");
         }
         sb.append("─┤\n");
 
         // Time values
         sb.append("│");
-        for (int i = 0; i <= ganttChart.size(); i++) {
-            int time = ganttTime.get(i);
-            sb.append(String.format("%5d│", time));
+        for (int i = 0; i <= slices; i++) {
+            sb.append(String.format("%5d│", gantt.getTime(i)));
         }
         sb.append("\n");
 
         // Bottom border
         sb.append("└");
-        for (int i = 0; i < ganttChart.size(); i++) {
+        for (int i = 0; i < slices; i++) {
             sb.append("─────┴");
         }
         sb.append("─┘\n");
@@ -108,6 +115,13 @@ public class GanttChart {
         return sb.toString();
     }
 
+    /**
+     * Five-character box label for a slice
+     */
+    private static String label(int processId) {
+        return processId == GanttTimeline.IDLE ? " --  " : String.format(" P%-2d ", processId);
+    }
+
     /**
      * Get Gantt chart data as formatted string
      */
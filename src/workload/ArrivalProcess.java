@@ -0,0 +1,79 @@
+package workload;
+
+import java.util.SplittableRandom;
+
+/**
+ * Generates arrival times one after another
+ * Some processes keep state between calls (the on/off source remembers its
+ * current period), so every generator works on its own copy().
+ */
+public interface ArrivalProcess {
+
+    /**
+     * Time of the next arrival
+     * @param time Previous arrival time, or 0 before the first arrival
+     * @return A time no earlier than {@code time}
+     */
+    double nextArrival(double time, SplittableRandom random);
+
+    /**
+     * Independent instance with fresh state
+     */
+    default ArrivalProcess copy() {
+        return this;
+    }
+
+    /**
+     * Poisson arrivals: exponential gaps with the given mean rate per time unit
+     */
+    static ArrivalProcess poisson(double rate) {
+        requirePositiveRate(rate);
+        Distribution gaps = Distribution.exponential(1 / rate);
+        return (time, random) -> time + gaps.sample(random);
+    }
+
+    /**
+     * Bursty source alternating between ON periods with Poisson arrivals
+     * at the given rate and silent OFF periods
+     * Heavy-tailed period lengths (e.g. Pareto) give self-similar traffic.
+     */
+    static ArrivalProcess onOff(double rate, Distribution onPeriod, Distribution offPeriod) {
+        requirePositiveRate(rate);
+        if (!(onPeriod.mean() > 0)) {
+            throw new IllegalArgumentException("On/off source needs ON periods with a positive mean length");
+        }
+        return new OnOffArrivals(rate, onPeriod, offPeriod);
+    }
+
+    /**
+     * Non-homogeneous Poisson arrivals whose rate follows a daily cycle:
+     * meanRate * (1 + amplitude * sin(2 pi t / period))
+     * Sampled by thinning (Lewis and Shedler): candidates at the peak rate,
+     * each kept with probability rate(t) / peak.
+     * @param amplitude Relative swing between 0 (constant) and 1 (rate drops to zero)
+     */
+    static ArrivalProcess diurnal(double meanRate, double amplitude, double period) {
+        requirePositiveRate(meanRate);
+        if (!(amplitude >= 0 && amplitude <= 1)) {
+            throw new IllegalArgumentException("Diurnal amplitude must be between 0 and 1, got " + amplitude);
+        }
+        if (!(period > 0)) {
+            throw new IllegalArgumentException("Diurnal period must be positive, got " + period);
+        }
+        double peakRate = meanRate * (1 + amplitude);
+        Distribution gaps = Distribution.exponential(1 / peakRate);
+        return (time, random) -> {
+            double t = time;
+            do {
+                t += gaps.sample(random);
+            } while (random.nextDouble() * peakRate > meanRate * (1 + amplitude * Math.sin(2 * Math.PI * t / period)));
+            return t;
+        };
+    }
+
+    private static void requirePositiveRate(double rate) {
+        if (!(rate > 0 && rate < Double.POSITIVE_INFINITY)) {
+            throw new IllegalArgumentException("Arrival rate must be positive, got " + rate);
+        }
+    }
+}
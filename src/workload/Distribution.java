@@ -0,0 +1,135 @@
+package workload;
+
+import java.util.SplittableRandom;
+
+/**
+ * Continuous random distribution used for burst times and on/off period lengths
+ * Implementations are immutable and may be shared between threads; all
+ * randomness comes from the caller's SplittableRandom.
+ */
+public interface Distribution {
+
+    double sample(SplittableRandom random);
+
+    /**
+     * Mean of the distribution, or infinity if it has none
+     */
+    double mean();
+
+    static Distribution constant(double value) {
+        return new Distribution() {
+            @Override
+            public double sample(SplittableRandom random) {
+                return value;
+            }
+
+            @Override
+            public double mean() {
+                return value;
+            }
+        };
+    }
+
+    static Distribution uniform(double min, double max) {
+        if (!(min <= max)) {
+            throw new IllegalArgumentException("Uniform needs min <= max, got " + min + " and " + max);
+        }
+        return new Distribution() {
+            @Override
+            public double sample(SplittableRandom random) {
+                return min + (max - min) * random.nextDouble();
+            }
+
+            @Override
+            public double mean() {
+                return (min + max) / 2;
+            }
+        };
+    }
+
+    /**
+     * Exponential distribution (memoryless), sampled by inversion
+     */
+    static Distribution exponential(double mean) {
+        requirePositive("Exponential mean", mean);
+        return new Distribution() {
+            @Override
+            public double sample(SplittableRandom random) {
+                return -mean * Math.log(1 - random.nextDouble());
+            }
+
+            @Override
+            public double mean() {
+                return mean;
+            }
+        };
+    }
+
+    /**
+     * Pareto distribution: P(X > x) = (scale / x)^shape for x >= scale
+     * Heavy-tailed; the mean is infinite for shape <= 1 and the variance for shape <= 2.
+     */
+    static Distribution pareto(double shape, double scale) {
+        requirePositive("Pareto shape", shape);
+        requirePositive("Pareto scale", scale);
+        return new Distribution() {
+            @Override
+            public double sample(SplittableRandom random) {
+                return scale / Math.pow(1 - random.nextDouble(), 1 / shape);
+            }
+
+            @Override
+            public double mean() {
+                return shape > 1 ? shape * scale / (shape - 1) : Double.POSITIVE_INFINITY;
+            }
+        };
+    }
+
+    /**
+     * Pareto distribution with the given mean; shape must be above 1
+     */
+    static Distribution paretoWithMean(double shape, double mean) {
+        if (!(shape > 1)) {
+            throw new IllegalArgumentException("Pareto with a finite mean needs shape > 1, got " + shape);
+        }
+        requirePositive("Pareto mean", mean);
+        return pareto(shape, mean * (shape - 1) / shape);
+    }
+
+    /**
+     * Lognormal distribution: exp(mu + sigma * Z) for a standard normal Z
+     */
+    static Distribution lognormal(double mu, double sigma) {
+        if (!(sigma >= 0)) {
+            throw new IllegalArgumentException("Lognormal sigma must not be negative, got " + sigma);
+        }
+        return new Distribution() {
+            @Override
+            public double sample(SplittableRandom random) {
+                // Box-Muller; 1 - u keeps the logarithm finite
+                double radius = Math.sqrt(-2 * Math.log(1 - random.nextDouble()));
+                double z = radius * Math.cos(2 * Math.PI * random.nextDouble());
+                return Math.exp(mu + sigma * z);
+            }
+
+            @Override
+            public double mean() {
+                return Math.exp(mu + sigma * sigma / 2);
+            }
+        };
+    }
+
+    /**
+     * Lognormal distribution with the given mean and shape sigma
+     */
+    static Distribution lognormalWithMean(double mean, double sigma) {
+        requirePositive("Lognormal mean", mean);
+        return lognormal(Math.log(mean) - sigma * sigma / 2, sigma);
+    }
+
+    private static void requirePositive(String name, double value) {
+        if (!(value > 0)) {
+            throw new IllegalArgumentException(name + " must be positive, got " + value);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package workload;
+
+import java.util.SplittableRandom;
+
+/**
+ * On/off arrival source; see ArrivalProcess.onOff
+ * Starts in an ON period at time 0.
+ */
+class OnOffArrivals implements ArrivalProcess {
+    private final Distribution gaps;
+    private final Distribution onPeriod;
+    private final Distribution offPeriod;
+    private double onEnd = Double.NaN;    // end of the current ON period, NaN before the first call
+
+    OnOffArrivals(double rate, Distribution onPeriod, Distribution offPeriod) {
+        this.gaps = Distribution.exponential(1 / rate);
+        this.onPeriod = onPeriod;
+        this.offPeriod = offPeriod;
+    }
+
+    private OnOffArrivals(OnOffArrivals other) {
+        this.gaps = other.gaps;
+        this.onPeriod = other.onPeriod;
+        this.offPeriod = other.offPeriod;
+    }
+
+    @Override
+    public double nextArrival(double time, SplittableRandom random) {
+        if (Double.isNaN(onEnd)) {
+            onEnd = onPeriod.sample(random);
+        }
+        double next = time + gaps.sample(random);
+
+        // Exponential gaps are memoryless, so a gap cut short by an OFF period restarts at the next ON
+        while (next >= onEnd) {
+            double onStart = onEnd + offPeriod.sample(random);
+            onEnd = onStart + onPeriod.sample(random);
+            next = onStart + gaps.sample(random);
+        }
+        return next;
+    }
+
+    @Override
+    public ArrivalProcess copy() {
+        return new OnOffArrivals(this);
+    }
+}
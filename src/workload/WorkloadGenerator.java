@@ -0,0 +1,105 @@
+package workload;
+
+import models.ProcessTable;
+import trace.TraceReader;
+import java.util.SplittableRandom;
+
+/**
+ * Synthetic workload streamed as an arrival-ordered trace
+ * Each call to next() draws one process: its arrival from the arrival
+ * process, its burst from the burst distribution (rounded, at least 1) and
+ * a uniform priority. Nothing is kept between records, so a generator can
+ * feed a StreamingScheduler with far more processes than fit in memory.
+ * Arrival times are whole time units; the trace ends early if they would
+ * pass Integer.MAX_VALUE.
+ */
+public class WorkloadGenerator implements TraceReader {
+    private final int count;
+    private final ArrivalProcess arrivals;
+    private final Distribution bursts;
+    private final int maxPriority;
+    private final SplittableRandom random;
+
+    private double time;
+    private int recordsRead;
+    private int arrivalTime;
+    private int burstTime;
+    private int priority;
+
+    /**
+     * @param count Number of processes to generate
+     * @param maxPriority Priorities are drawn uniformly from 0..maxPriority
+     */
+    public WorkloadGenerator(int count, ArrivalProcess arrivals, Distribution bursts, int maxPriority,
+                             SplittableRandom random) {
+        if (count < 0 || maxPriority < 0) {
+            throw new IllegalArgumentException("Process count and max priority must not be negative");
+        }
+        this.count = count;
+        this.arrivals = arrivals.copy();
+        this.bursts = bursts;
+        this.maxPriority = maxPriority;
+        this.random = random;
+    }
+
+    public WorkloadGenerator(int count, ArrivalProcess arrivals, Distribution bursts, int maxPriority, long seed) {
+        this(count, arrivals, bursts, maxPriority, new SplittableRandom(seed));
+    }
+
+    @Override
+    public boolean next() {
+        if (recordsRead == count) {
+            return false;
+        }
+        double next = arrivals.nextArrival(time, random);
+        if (!(next <= Integer.MAX_VALUE)) {
+            return false;
+        }
+        time = next;
+        arrivalTime = (int) next;
+        burstTime = (int) Math.max(1, Math.min(Math.round(bursts.sample(random)), Integer.MAX_VALUE));
+        priority = random.nextInt(maxPriority + 1);
+        recordsRead++;
+        return true;
+    }
+
+    @Override
+    public int processId() {
+        return recordsRead;
+    }
+
+    @Override
+    public int arrivalTime() {
+        return arrivalTime;
+    }
+
+    @Override
+    public int burstTime() {
+        return burstTime;
+    }
+
+    @Override
+    public int priority() {
+        return priority;
+    }
+
+    @Override
+    public long recordsRead() {
+        return recordsRead;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Generate the remaining processes into a table, for the non-streaming schedulers
+     */
+    public ProcessTable toTable() {
+        ProcessTable table = new ProcessTable(count - recordsRead);
+        while (next()) {
+            table.add(processId(), arrivalTime, burstTime, priority);
+        }
+        return table;
+    }
+}